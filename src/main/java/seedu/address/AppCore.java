@@ -0,0 +1,256 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournalCompactor;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The parts of the application that do not depend on the UI: config, storage, model and logic.
+ * Shared by the JavaFX application and the headless entry point, so that neither has to know how the other is
+ * wired up.
+ */
+public class AppCore {
+
+    private static final Logger logger = LogsCenter.getLogger(AppCore.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+    private final JournalCompactor journalCompactor;
+
+    /**
+     * Loads the config at {@code configFilePath} (or the default config file if it is null), the user preferences
+     * and the address book, and creates the logic that runs commands against them.
+     */
+    public AppCore(Path configFilePath) {
+        config = initConfig(configFilePath);
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        convertAddressBookIfNeeded(userPrefs);
+        AddressBookStorage addressBookStorage = AddressBookFormatConverter.createStorage(
+                userPrefs.getAddressBookFilePath(), userPrefs.getAddressBookFormat(), config);
+        // a sharded address book already rewrites only the shards that changed, so it is not journaled
+        if (!config.isJournalEnabled() || addressBookStorage instanceof ShardedAddressBookStorage) {
+            journalCompactor = null;
+        } else {
+            JournaledAddressBookStorage journaledStorage =
+                    new JournaledAddressBookStorage(addressBookStorage, config.getSaveDurability());
+            journalCompactor = new JournalCompactor(journaledStorage, config.getJournalMaxBytes(),
+                    Duration.ofSeconds(config.getJournalMaxAgeSeconds()));
+            addressBookStorage = journaledStorage;
+        }
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage, config.isWriteBehindEnabled());
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Starts the background work of the application, i.e. compacting the journal of the address book.
+     */
+    public void start() {
+        if (journalCompactor != null) {
+            journalCompactor.start();
+        }
+    }
+
+    /**
+     * Finishes any pending saves, stops the background work and saves the user preferences.
+     */
+    public void stop() {
+        logic.flush();
+        if (journalCompactor != null) {
+            journalCompactor.stop();
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Converts the data file at {@code userPrefs}'s address book file path to {@code userPrefs}'s address book format
+     * and {@code config}'s sharding if it is stored otherwise, e.g. because the format was just changed in the
+     * preferences file.
+     */
+    private void convertAddressBookIfNeeded(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        try {
+            if (!AddressBookFormatConverter.isConversionNeeded(filePath, format, config)) {
+                return;
+            }
+            logger.info("Converting data file " + filePath + " to " + format);
+            AddressBookFormatConverter.convert(filePath, filePath, format, config);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + filePath + " could not be converted to " + format + ": "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Runs the commands in the batch file at {@code batchPath} against the loaded address book.
+     * The outcome is logged, as there may be nowhere else to report it yet.
+     */
+    public void runBatch(Path batchPath) {
+        try {
+            String feedback = logic.execute(BatchCommand.COMMAND_WORD + " " + batchPath).getFeedbackToUser();
+            logger.info(feedback);
+        } catch (CommandException | ParseException e) {
+            logger.warning("Batch file " + batchPath + " could not be run: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+}
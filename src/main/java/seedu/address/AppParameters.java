@@ -18,6 +18,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path batchPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +28,29 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the batch file to run once the address book is loaded, or null if there is none.
+     */
+    public Path getBatchPath() {
+        return batchPath;
+    }
+
+    public void setBatchPath(Path batchPath) {
+        this.batchPath = batchPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the application command-line parameters given as {@code --name=value}, keyed by their names.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +59,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchPathParameter = namedParameters.get("batch");
+        if (batchPathParameter != null && !FileUtil.isValidPath(batchPathParameter)) {
+            logger.warning("Invalid batch file path " + batchPathParameter + ". No batch file will be run.");
+            batchPathParameter = null;
+        }
+        appParameters.setBatchPath(batchPathParameter != null ? Paths.get(batchPathParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +81,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(batchPath, otherAppParameters.batchPath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchPath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("batchPath", batchPath)
                 .toString();
     }
 }
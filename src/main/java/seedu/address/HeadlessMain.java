@@ -0,0 +1,132 @@
+package seedu.address;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without its UI, e.g. from a scheduled job on a machine without a display.
+ * JavaFX is never started, and none of the {@code seedu.address.ui} classes are loaded.
+ *
+ * Commands are read one per line from the file given as the first unnamed parameter, or from standard input if there
+ * is none or it is {@value #STANDARD_INPUT}. The result of each command is written to standard output, and errors to
+ * standard error. Reading stops at the end of the input or at an {@code exit} command.
+ *
+ * Takes the same named parameters as the application, e.g.
+ * {@code java -jar addressbook.jar --headless --config=config.json commands.txt}.
+ */
+public class HeadlessMain {
+
+    /** Makes {@link Main} run the application through this class instead of starting JavaFX. */
+    public static final String HEADLESS_FLAG = "--headless";
+
+    /** Exit status when every command succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** Exit status when a command failed or the commands could not be read. */
+    public static final int EXIT_FAILURE = 1;
+
+    private static final String STANDARD_INPUT = "-";
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Loads the address book as set up by the parameters in {@code args}, runs the commands read from the command
+     * file in {@code args} or from {@code in}, and returns the exit status.
+     */
+    static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            }
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && arg.contains(NAMED_PARAMETER_SEPARATOR)) {
+                int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        String commandFile = unnamedParameters.isEmpty() ? STANDARD_INPUT : unnamedParameters.get(0);
+        if (!commandFile.equals(STANDARD_INPUT) && !FileUtil.isValidPath(commandFile)) {
+            err.println("Invalid command file path " + commandFile);
+            return EXIT_FAILURE;
+        }
+
+        logger.info("=========================[ Initializing AddressBook (headless) ]========================");
+        AppCore core = new AppCore(appParameters.getConfigPath());
+        core.start();
+        try {
+            boolean isAllSuccessful = true;
+            if (appParameters.getBatchPath() != null) {
+                isAllSuccessful = executeAndReport(core.getLogic(),
+                        BatchCommand.COMMAND_WORD + " " + appParameters.getBatchPath(), out, err) != null;
+            }
+            try (BufferedReader reader = new BufferedReader(commandFile.equals(STANDARD_INPUT)
+                    ? new InputStreamReader(in, UTF_8)
+                    : Files.newBufferedReader(Paths.get(commandFile), UTF_8))) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    CommandResult result = executeAndReport(core.getLogic(), line, out, err);
+                    isAllSuccessful &= result != null;
+                    if (result != null && result.isExit()) {
+                        break;
+                    }
+                }
+            }
+            return isAllSuccessful ? EXIT_SUCCESS : EXIT_FAILURE;
+        } catch (IOException ioe) {
+            err.println("Could not read commands from " + commandFile + ": " + StringUtil.getDetails(ioe));
+            return EXIT_FAILURE;
+        } finally {
+            logger.info("======================== [ Stopping AddressBook (headless) ] =======================");
+            core.stop();
+        }
+    }
+
+    /**
+     * Executes {@code commandText} and writes its result to {@code out}, or its error to {@code err}.
+     * Returns the result, or null if the command failed.
+     */
+    private static CommandResult executeAndReport(Logic logic, String commandText, PrintStream out,
+            PrintStream err) {
+        try {
+            CommandResult result = logic.execute(commandText);
+            out.println(result.getFeedbackToUser());
+            return result;
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            return null;
+        }
+    }
+}
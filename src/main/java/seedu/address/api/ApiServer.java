@@ -0,0 +1,403 @@
+package seedu.address.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Doctor;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagFilter;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.StreamingAddressBookStorage;
+
+/**
+ * Serves the address book over HTTP on the loopback interface, for other programs on the same machine.
+ *
+ * {@code GET /api/persons} lists the persons in the address book as JSON, in the format of the data file. They can
+ * be filtered with the query parameters {@code name} (any of the keywords), {@code tag}, {@code medicine} and
+ * {@code doctor}, each of which may be repeated, and their number limited with {@code limit}. Queries read
+ * {@link Logic#getAddressBookSnapshot()} rather than the model, so they do not change what the UI lists, and look up
+ * filters in the indexes of the snapshot, which are shared by every query of it without locking.
+ *
+ * {@code POST /api/commands} runs the command in a body of the form {@code {"command": "..."}} as if it had been
+ * entered in the command box, and responds with its feedback. Commands are run by the executor given to the
+ * constructor, which must run them one at a time, e.g. on the thread that runs the commands entered in the UI.
+ *
+ * Requests are handled on a fixed pool of {@link #REQUEST_THREADS} threads, and wait in a queue while every thread is
+ * busy, so a burst of clients cannot start an unbounded number of threads. Requests naming a host other than the loopback interface in their {@code Host} header are refused, so that
+ * web pages cannot reach the server by rebinding their domain name to it.
+ */
+public class ApiServer {
+
+    public static final String JSON_MEDIA_TYPE = "application/json";
+
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String COMMANDS_PATH = "/api/commands";
+
+    /** Number of persons listed by a query without a {@code limit}. */
+    public static final int DEFAULT_LIMIT = 100;
+
+    public static final String MESSAGE_INVALID_PORT = "The API port should be between 0 and 65535.";
+    public static final String MESSAGE_FORBIDDEN_HOST = "Only requests to localhost are served.";
+    public static final String MESSAGE_NOT_FOUND = "No such endpoint: %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s should be requested with %2$s.";
+    public static final String MESSAGE_UNKNOWN_PARAMETER = "Unknown query parameter: %1$s";
+    public static final String MESSAGE_INVALID_QUERY = "The query string is not properly encoded.";
+    public static final String MESSAGE_BLANK_NAME = "name should have at least one keyword.";
+    public static final String MESSAGE_INVALID_LIMIT = "limit should be a positive integer.";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "Commands should be sent as " + JSON_MEDIA_TYPE + ".";
+    public static final String MESSAGE_BODY_TOO_LARGE = "The body should be at most %1$d bytes.";
+    public static final String MESSAGE_INVALID_BODY = "The body should be a JSON object with a \"command\" string.";
+    public static final String MESSAGE_COMMAND_FAILED = "The command could not be run.";
+
+    /** Largest command body accepted, which is far more than any command typed into the command box. */
+    static final int MAX_BODY_BYTES = 1 << 16;
+
+    /** Connections waiting to be accepted, enough for hundreds of clients connecting at once. */
+    private static final int CONNECTION_BACKLOG = 1024;
+
+    /**
+     * Threads handling requests. Queries spend their time reading the snapshot, so more threads than processors would
+     * not serve them faster, but at least two keep a query from waiting behind a command.
+     */
+    static final int REQUEST_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final Set<String> LOOPBACK_HOST_NAMES = Set.of("localhost", "127.0.0.1", "[::1]");
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_FORBIDDEN = 403;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    private static final int HTTP_PAYLOAD_TOO_LARGE = 413;
+    private static final int HTTP_UNSUPPORTED_MEDIA_TYPE = 415;
+    private static final int HTTP_INTERNAL_ERROR = 500;
+    private static final int HTTP_UNAVAILABLE = 503;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final int port;
+    private final Executor commandExecutor;
+    /** Writes query results compactly, in the format of the data file. */
+    private final StreamingAddressBookStorage personsWriter;
+
+    private HttpServer server;
+    private ExecutorService requestExecutor;
+
+    /**
+     * Creates an {@code ApiServer} for {@code logic} at {@code port} on the loopback interface, or at any free port
+     * if {@code port} is 0. Commands are run by {@code commandExecutor}, one at a time.
+     */
+    public ApiServer(Logic logic, int port, Executor commandExecutor) {
+        requireNonNull(logic);
+        requireNonNull(commandExecutor);
+        checkArgument(port >= 0 && port <= 0xFFFF, MESSAGE_INVALID_PORT);
+        this.logic = logic;
+        this.port = port;
+        this.commandExecutor = commandExecutor;
+        this.personsWriter = new JsonAddressBookStorage(logic.getAddressBookFilePath(), 0, false, false,
+                Config.DEFAULT_SAVE_DURABILITY);
+    }
+
+    /**
+     * Starts serving requests.
+     *
+     * @throws IOException if the port cannot be bound, e.g. because it is in use.
+     */
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), CONNECTION_BACKLOG);
+        server.createContext(PERSONS_PATH, exchange -> handle(exchange, PERSONS_PATH, "GET", this::handlePersons));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, COMMANDS_PATH, "POST", this::handleCommand));
+        requestExecutor = Executors.newFixedThreadPool(REQUEST_THREADS);
+        server.setExecutor(requestExecutor);
+        server.start();
+        logger.info("Serving the HTTP API at http://localhost:" + getPort() + "/api");
+    }
+
+    /**
+     * Stops serving requests, without waiting for the requests being handled to finish.
+     */
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        requestExecutor.shutdownNow();
+        server = null;
+        logger.info("Stopped serving the HTTP API");
+    }
+
+    /**
+     * Returns the port requests are served at, which is only known after {@link #start()} if 0 was given.
+     */
+    public int getPort() {
+        return server == null ? port : server.getAddress().getPort();
+    }
+
+    /**
+     * Passes {@code exchange} to {@code handler} if it requests {@code path} of a loopback host with {@code method},
+     * or responds with an error otherwise.
+     */
+    private void handle(HttpExchange exchange, String path, String method, HttpHandler handler) {
+        try {
+            if (!isLoopbackHost(exchange.getRequestHeaders().getFirst("Host"))) {
+                sendError(exchange, HTTP_FORBIDDEN, MESSAGE_FORBIDDEN_HOST);
+            } else if (!exchange.getRequestURI().getPath().equals(path)) {
+                sendError(exchange, HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI()));
+            } else if (!exchange.getRequestMethod().equals(method)) {
+                exchange.getResponseHeaders().set("Allow", method);
+                sendError(exchange, HTTP_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED, path, method));
+            } else {
+                handler.handle(exchange);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to handle " + exchange.getRequestMethod() + " " + exchange.getRequestURI() + ": "
+                    + StringUtil.getDetails(e));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns true if {@code host}, the value of a {@code Host} header, names the loopback interface.
+     */
+    static boolean isLoopbackHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        // the port follows the last colon, unless that colon is part of a bracketed IPv6 address
+        int portSeparatorIndex = host.lastIndexOf(':');
+        String hostName = portSeparatorIndex > host.lastIndexOf(']') ? host.substring(0, portSeparatorIndex) : host;
+        return LOOPBACK_HOST_NAMES.contains(hostName.toLowerCase(Locale.ROOT));
+    }
+
+    private void handlePersons(HttpExchange exchange) throws IOException {
+        List<Function<AddressBookSnapshot, Set<Person>>> filters;
+        int limit;
+        try {
+            Map<String, List<String>> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+            filters = parseFilters(parameters);
+            limit = parseLimit(parameters);
+        } catch (ParseException pe) {
+            sendError(exchange, HTTP_BAD_REQUEST, pe.getMessage());
+            return;
+        }
+
+        AddressBookSnapshot snapshot = logic.getAddressBookSnapshot();
+        List<Person> matches;
+        if (filters.isEmpty()) {
+            matches = snapshot.getPersonList().stream().limit(limit).collect(Collectors.toList());
+        } else {
+            // lists the matches in the order of the address book, stopping as soon as all of them are found
+            Set<Person> matchingPersons = findMatchingPersons(snapshot, filters);
+            matches = snapshot.getPersonList().stream()
+                    .filter(matchingPersons::contains)
+                    .limit(Math.min(limit, matchingPersons.size()))
+                    .collect(Collectors.toList());
+        }
+        exchange.getResponseHeaders().set("Content-Type", JSON_MEDIA_TYPE);
+        exchange.sendResponseHeaders(HTTP_OK, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            personsWriter.writeTo(new AddressBookSnapshot(matches), out);
+        }
+    }
+
+    /**
+     * Returns the persons in {@code snapshot} that satisfy every filter in {@code filters}, compared by reference.
+     */
+    private static Set<Person> findMatchingPersons(AddressBookSnapshot snapshot,
+            List<Function<AddressBookSnapshot, Set<Person>>> filters) {
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingPersons.addAll(filters.get(0).apply(snapshot));
+        for (Function<AddressBookSnapshot, Set<Person>> filter : filters.subList(1, filters.size())) {
+            matchingPersons.retainAll(filter.apply(snapshot));
+        }
+        return matchingPersons;
+    }
+
+    /**
+     * Parses the query string {@code rawQuery} into the values of each parameter, in order.
+     */
+    static Map<String, List<String>> parseQuery(String rawQuery) throws ParseException {
+        Map<String, List<String>> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        try {
+            for (String parameter : rawQuery.split("&")) {
+                if (parameter.isEmpty()) {
+                    continue;
+                }
+                int separatorIndex = parameter.indexOf('=');
+                String name = separatorIndex < 0 ? parameter : parameter.substring(0, separatorIndex);
+                String value = separatorIndex < 0 ? "" : parameter.substring(separatorIndex + 1);
+                parameters.computeIfAbsent(URLDecoder.decode(name, UTF_8), unused -> new ArrayList<>())
+                        .add(URLDecoder.decode(value, UTF_8));
+            }
+        } catch (IllegalArgumentException iae) {
+            throw new ParseException(MESSAGE_INVALID_QUERY, iae);
+        }
+        return parameters;
+    }
+
+    /**
+     * Returns the filters in {@code parameters}, each of which looks up the persons it matches in a snapshot.
+     */
+    static List<Function<AddressBookSnapshot, Set<Person>>> parseFilters(Map<String, List<String>> parameters)
+            throws ParseException {
+        List<Function<AddressBookSnapshot, Set<Person>>> filters = new ArrayList<>();
+        for (Map.Entry<String, List<String>> parameter : parameters.entrySet()) {
+            for (String value : parameter.getValue()) {
+                parseFilter(parameter.getKey(), value).ifPresent(filters::add);
+            }
+        }
+        return filters;
+    }
+
+    private static Optional<Function<AddressBookSnapshot, Set<Person>>> parseFilter(String name, String value)
+            throws ParseException {
+        switch (name) {
+        case "name":
+            if (value.isBlank()) {
+                throw new ParseException(MESSAGE_BLANK_NAME);
+            }
+            List<String> keywords = Arrays.asList(value.trim().split("\\s+"));
+            return Optional.of(snapshot -> snapshot.getPersonsWithNameKeywords(keywords));
+        case "tag":
+            TagFilter tagFilter = new TagFilter(Set.of(ParserUtil.parseTag(value)), Set.of(), Set.of());
+            return Optional.of(snapshot -> snapshot.getPersonsMatchingTags(tagFilter));
+        case "medicine":
+            List<Medicine> medicines = List.of(ParserUtil.parseMedicine(value));
+            return Optional.of(snapshot -> snapshot.getPersonsTakingAnyMedicine(medicines));
+        case "doctor":
+            Doctor doctor = ParserUtil.parseDoctor(value);
+            return Optional.of(snapshot -> snapshot.getPersonsUnderDoctor(doctor));
+        case "limit":
+            return Optional.empty();
+        default:
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_PARAMETER, name));
+        }
+    }
+
+    /**
+     * Returns the last {@code limit} in {@code parameters}, or {@link #DEFAULT_LIMIT} if there is none.
+     */
+    static int parseLimit(Map<String, List<String>> parameters) throws ParseException {
+        List<String> values = parameters.get("limit");
+        if (values == null) {
+            return DEFAULT_LIMIT;
+        }
+        String value = values.get(values.size() - 1);
+        if (!StringUtil.isNonZeroUnsignedInteger(value)) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT);
+        }
+        return Integer.parseInt(value);
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        // browsers cannot send a JSON content type to another origin without asking first, so this keeps web pages
+        // from running commands
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith(JSON_MEDIA_TYPE)) {
+            sendError(exchange, HTTP_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_MEDIA_TYPE);
+            return;
+        }
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readNBytes(MAX_BODY_BYTES + 1);
+        }
+        if (body.length > MAX_BODY_BYTES) {
+            sendError(exchange, HTTP_PAYLOAD_TOO_LARGE, String.format(MESSAGE_BODY_TOO_LARGE, MAX_BODY_BYTES));
+            return;
+        }
+        String commandText = parseCommandText(body);
+        if (commandText == null) {
+            sendError(exchange, HTTP_BAD_REQUEST, MESSAGE_INVALID_BODY);
+            return;
+        }
+
+        FutureTask<CommandResult> task = new FutureTask<>(() -> logic.execute(commandText));
+        commandExecutor.execute(task);
+        try {
+            CommandResult result = task.get();
+            sendJson(exchange, HTTP_OK, Map.of("feedback", result.getFeedbackToUser()));
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                sendError(exchange, HTTP_BAD_REQUEST, cause.getMessage());
+            } else {
+                logger.warning("Command from the HTTP API failed: " + StringUtil.getDetails(cause));
+                sendError(exchange, HTTP_INTERNAL_ERROR, MESSAGE_COMMAND_FAILED);
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            sendError(exchange, HTTP_UNAVAILABLE, MESSAGE_COMMAND_FAILED);
+        }
+    }
+
+    /**
+     * Returns the command in the JSON {@code body}, or null if {@code body} does not hold one.
+     */
+    private static String parseCommandText(byte[] body) {
+        try {
+            Object command = JsonUtil.fromJsonString(new String(body, UTF_8), Map.class).get("command");
+            return command instanceof String ? (String) command : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, Map.of("error", message));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object value) throws IOException {
+        byte[] body = JsonUtil.toCompactJsonString(value).getBytes(UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_MEDIA_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats the address book can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** A compact binary encoding, which is smaller and faster to load and save. */
+    BINARY
+}
@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.util.Durability;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -13,10 +14,25 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_PRETTY_PRINT_MAX_PERSONS = 1000;
+    public static final Durability DEFAULT_SAVE_DURABILITY = Durability.NONE;
+    public static final boolean DEFAULT_PARALLEL_LOAD_ENABLED = true;
+    public static final boolean DEFAULT_LAZY_LOAD_ENABLED = false;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean writeBehindEnabled = false;
+    private boolean journalEnabled = false;
+    private long journalMaxBytes = 1024 * 1024;
+    private long journalMaxAgeSeconds = 60 * 60;
+    private int prettyPrintMaxPersons = DEFAULT_PRETTY_PRINT_MAX_PERSONS;
+    private Durability saveDurability = DEFAULT_SAVE_DURABILITY;
+    private int compressionLevel = 0;
+    private boolean parallelLoadEnabled = DEFAULT_PARALLEL_LOAD_ENABLED;
+    private boolean lazyLoadEnabled = DEFAULT_LAZY_LOAD_ENABLED;
+    private int shardCount = 1;
+    private int apiPort = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +50,131 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the address book should be saved on a background thread instead of after every command.
+     */
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
+    public void setWriteBehindEnabled(boolean writeBehindEnabled) {
+        this.writeBehindEnabled = writeBehindEnabled;
+    }
+
+    /**
+     * Returns true if changes to the address book should be appended to a journal next to the data file, instead of
+     * rewriting the whole file after every command.
+     */
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    /**
+     * Returns the size, in bytes, above which the address book journal is compacted into a new snapshot.
+     */
+    public long getJournalMaxBytes() {
+        return journalMaxBytes;
+    }
+
+    public void setJournalMaxBytes(long journalMaxBytes) {
+        this.journalMaxBytes = journalMaxBytes;
+    }
+
+    /**
+     * Returns how long, in seconds, changes may stay in the address book journal before it is compacted.
+     */
+    public long getJournalMaxAgeSeconds() {
+        return journalMaxAgeSeconds;
+    }
+
+    public void setJournalMaxAgeSeconds(long journalMaxAgeSeconds) {
+        this.journalMaxAgeSeconds = journalMaxAgeSeconds;
+    }
+
+    /**
+     * Returns the largest number of persons for which the address book file is indented for readability.
+     * Larger address books are written in the compact form, which is faster to write and smaller.
+     */
+    public int getPrettyPrintMaxPersons() {
+        return prettyPrintMaxPersons;
+    }
+
+    public void setPrettyPrintMaxPersons(int prettyPrintMaxPersons) {
+        this.prettyPrintMaxPersons = prettyPrintMaxPersons;
+    }
+
+    /**
+     * Returns how far each save of the address book is pushed to the storage device before it is considered done.
+     */
+    public Durability getSaveDurability() {
+        return saveDurability;
+    }
+
+    public void setSaveDurability(Durability saveDurability) {
+        this.saveDurability = saveDurability;
+    }
+
+    /**
+     * Returns the gzip level, from 1 (fastest) to 9 (smallest), at which the address book file is compressed, or 0 if
+     * it is not compressed.
+     */
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Returns true if the persons in the address book file should be converted on several threads when it is loaded.
+     */
+    public boolean isParallelLoadEnabled() {
+        return parallelLoadEnabled;
+    }
+
+    public void setParallelLoadEnabled(boolean parallelLoadEnabled) {
+        this.parallelLoadEnabled = parallelLoadEnabled;
+    }
+
+    /**
+     * Returns true if only the names of the persons in an uncompressed JSON address book file should be validated and
+     * kept in memory when it is loaded, with their other fields read again from the file when they are first needed.
+     */
+    public boolean isLazyLoadEnabled() {
+        return lazyLoadEnabled;
+    }
+
+    public void setLazyLoadEnabled(boolean lazyLoadEnabled) {
+        this.lazyLoadEnabled = lazyLoadEnabled;
+    }
+
+    /**
+     * Returns the number of files the address book is split across, or 1 if it is kept in a single file.
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Returns the port on the loopback interface at which the HTTP API is served, or 0 if it is not served.
+     */
+    public int getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(int apiPort) {
+        this.apiPort = apiPort;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +188,25 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && writeBehindEnabled == otherConfig.writeBehindEnabled
+                && journalEnabled == otherConfig.journalEnabled
+                && journalMaxBytes == otherConfig.journalMaxBytes
+                && journalMaxAgeSeconds == otherConfig.journalMaxAgeSeconds
+                && prettyPrintMaxPersons == otherConfig.prettyPrintMaxPersons
+                && saveDurability == otherConfig.saveDurability
+                && compressionLevel == otherConfig.compressionLevel
+                && parallelLoadEnabled == otherConfig.parallelLoadEnabled
+                && lazyLoadEnabled == otherConfig.lazyLoadEnabled
+                && shardCount == otherConfig.shardCount
+                && apiPort == otherConfig.apiPort;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, writeBehindEnabled, journalEnabled, journalMaxBytes,
+                journalMaxAgeSeconds, prettyPrintMaxPersons, saveDurability, compressionLevel, parallelLoadEnabled,
+                lazyLoadEnabled, shardCount, apiPort);
     }
 
     @Override
@@ -60,6 +214,17 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("writeBehindEnabled", writeBehindEnabled)
+                .add("journalEnabled", journalEnabled)
+                .add("journalMaxBytes", journalMaxBytes)
+                .add("journalMaxAgeSeconds", journalMaxAgeSeconds)
+                .add("prettyPrintMaxPersons", prettyPrintMaxPersons)
+                .add("saveDurability", saveDurability)
+                .add("compressionLevel", compressionLevel)
+                .add("parallelLoadEnabled", parallelLoadEnabled)
+                .add("lazyLoadEnabled", lazyLoadEnabled)
+                .add("shardCount", shardCount)
+                .add("apiPort", apiPort)
                 .toString();
     }
 
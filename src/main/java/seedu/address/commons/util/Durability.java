@@ -0,0 +1,14 @@
+package seedu.address.commons.util;
+
+/**
+ * How far a file write is pushed to the storage device before it is reported as done.
+ * Each level is safer against power loss, and slower, than the one before it.
+ */
+public enum Durability {
+    /** Leaves flushing to the operating system. Writes survive the app crashing, but not the machine. */
+    NONE,
+    /** Forces the file's content to the storage device. */
+    DATA,
+    /** Forces the file's content, and then its directory entry, to the storage device. */
+    DATA_AND_DIRECTORY
+}
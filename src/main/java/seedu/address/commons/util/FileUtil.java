@@ -1,18 +1,58 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    /** Files of at least this many bytes are read through a memory mapping by {@link #openForReading(Path)}. */
+    public static final long MAPPED_READ_THRESHOLD = 16 * 1024 * 1024;
+
+    /** The most bytes of a file mapped at once, as a mapping is addressed by an {@code int}. */
+    private static final long MAX_MAPPED_REGION_SIZE = 1 << 30;
+
     private static final String CHARSET = "UTF-8";
 
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+
+    /**
+     * True if a file can be replaced while it is open or memory-mapped. A mapping is only released once it is garbage
+     * collected, and until then Windows does not let its file be replaced, as every save of the file does.
+     */
+    private static final boolean CAN_REPLACE_OPEN_FILES = !System.getProperty("os.name", "").startsWith("Windows");
+
+    /**
+     * Returns true if a file can be replaced, e.g. by {@link #writeAtomically}, while it is still open for reading.
+     * The reader then keeps reading the replaced content.
+     */
+    public static boolean canReplaceOpenFiles() {
+        return CAN_REPLACE_OPEN_FILES;
+    }
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -72,6 +112,100 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Opens {@code file} for reading as a stream.
+     * Files of at least {@value #MAPPED_READ_THRESHOLD} bytes are memory-mapped instead of read through the usual
+     * system calls, so their bytes are copied only once, straight from the page cache to the reader's buffer.
+     * The mapping is left to be released by the garbage collector after the stream is closed. On Windows, where the
+     * file could not be saved again until then, large files are read through the usual system calls too.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        return openForReading(file, MAPPED_READ_THRESHOLD);
+    }
+
+    /**
+     * Similar to {@link #openForReading(Path)}, but memory-maps files of at least {@code mappedReadThreshold} bytes.
+     * The stream returned for a memory-mapped file supports {@link InputStream#mark(int)}.
+     */
+    public static InputStream openForReading(Path file, long mappedReadThreshold) throws IOException {
+        requireNonNull(file);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < mappedReadThreshold || !CAN_REPLACE_OPEN_FILES) {
+                return Channels.newInputStream(channel);
+            }
+            return new MappedFileInputStream(channel, size);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends given string to a file, then forces it to the storage device as required by {@code durability}.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content, Durability durability) throws IOException {
+        requireNonNull(durability);
+        boolean isNewFile = !Files.exists(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            force(channel, durability);
+        }
+        if (isNewFile && durability == Durability.DATA_AND_DIRECTORY) {
+            forceDirectory(file);
+        }
+    }
+
+    /**
+     * Cuts off whatever follows the last line break of {@code file}, such as a line that was only partly appended when
+     * the app or the machine stopped, then forces the file to the storage device as required by {@code durability}.
+     * A file without any line break is emptied.
+     *
+     * @return the number of bytes cut off.
+     */
+    public static long truncateToLastLine(Path file, Durability durability) throws IOException {
+        requireNonNull(durability);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long lastLineEnd = findLastLineEnd(channel, size);
+            if (lastLineEnd < size) {
+                channel.truncate(lastLineEnd);
+                force(channel, durability);
+            }
+            return size - lastLineEnd;
+        }
+    }
+
+    /**
+     * Returns the position just after the last line break among the first {@code size} bytes of {@code channel}, or 0
+     * if there is none. The bytes are searched backwards, so only the last line is read.
+     */
+    private static long findLastLineEnd(FileChannel channel, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long end = size;
+        while (end > 0) {
+            long start = Math.max(0, end - buffer.capacity());
+            buffer.clear().limit((int) (end - start));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new EOFException("File " + channel + " was shortened while being read");
+                }
+            }
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == '\n') {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +214,221 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the content of {@code file} with what {@code writer} writes, such that {@code file} holds either its
+     * old or its new content in full even if the app or the machine stops part way.
+     *
+     * The new content is written to a temporary file next to {@code file}, forced to the storage device as required
+     * by {@code durability}, and then moved over {@code file}. The temporary file is removed if writing fails.
+     * Will create the file and its parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, Durability durability, OutputWriter writer) throws IOException {
+        requireNonNull(durability);
+        requireNonNull(writer);
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                try (OutputStream out = new UnclosableOutputStream(Channels.newOutputStream(channel))) {
+                    writer.writeTo(out);
+                }
+                force(channel, durability);
+            }
+            moveAtomically(tempFile, file, durability);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically where the file system allows it.
+     * If {@code durability} is {@link Durability#DATA_AND_DIRECTORY}, the directory of {@code target} is then forced
+     * to the storage device so that the move itself survives a power loss.
+     */
+    public static void moveAtomically(Path source, Path target, Durability durability) throws IOException {
+        requireNonNull(durability);
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (durability == Durability.DATA_AND_DIRECTORY) {
+            forceDirectory(target);
+        }
+    }
+
+    private static void force(FileChannel channel, Durability durability) throws IOException {
+        if (durability != Durability.NONE) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Forces the directory holding {@code file} to the storage device.
+     * Does nothing on platforms, such as Windows, that do not allow a directory to be opened for this.
+     */
+    private static void forceDirectory(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory == null) {
+            return;
+        }
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface OutputWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Passes writes through to the underlying stream but only flushes it when closed, so that a writer closing the
+     * stream it was given does not close the file before it can be forced.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Reads a file through memory mappings of up to {@value #MAX_MAPPED_REGION_SIZE} bytes at a time, each mapped
+     * when reading reaches it and dropped when reading moves past it or the stream is closed.
+     */
+    private static class MappedFileInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final long size;
+        /** Position in the file of the first byte of {@code region}. */
+        private long regionStart;
+        /** The mapped region of the file, or null once the stream is closed. */
+        private MappedByteBuffer region;
+        private long markPosition;
+
+        MappedFileInputStream(FileChannel channel, long size) throws IOException {
+            this.channel = channel;
+            this.size = size;
+            mapRegionAt(0);
+        }
+
+        private void mapRegionAt(long position) throws IOException {
+            // lets the old region be collected before the next one is mapped, and keeps it unread if mapping fails
+            region = null;
+            region = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(size - position, MAX_MAPPED_REGION_SIZE));
+            regionStart = position;
+        }
+
+        /**
+         * Throws an {@code IOException} if the stream is closed, as its mapping must not be accessed then.
+         */
+        private void ensureOpen() throws IOException {
+            if (region == null) {
+                throw new IOException("Stream closed");
+            }
+        }
+
+        private long getPosition() {
+            return regionStart + region.position();
+        }
+
+        /**
+         * Returns true if there are bytes left to read in {@code region}, mapping the next region if needed.
+         */
+        private boolean hasRemaining() throws IOException {
+            ensureOpen();
+            if (!region.hasRemaining() && getPosition() < size) {
+                mapRegionAt(getPosition());
+            }
+            return region.hasRemaining();
+        }
+
+        @Override
+        public int read() throws IOException {
+            return hasRemaining() ? region.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0) {
+                return 0;
+            }
+            if (!hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, region.remaining());
+            region.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            ensureOpen();
+            long skipped = Math.max(0, Math.min(count, size - getPosition()));
+            seek(getPosition() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            ensureOpen();
+            return (int) Math.min(size - getPosition(), Integer.MAX_VALUE);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public void mark(int readLimit) {
+            if (region != null) {
+                markPosition = getPosition();
+            }
+        }
+
+        @Override
+        public void reset() throws IOException {
+            ensureOpen();
+            seek(markPosition);
+        }
+
+        private void seek(long position) throws IOException {
+            if (position >= regionStart && position <= regionStart + region.limit()) {
+                region.position((int) (position - regionStart));
+            } else {
+                mapRegionAt(position);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            region = null;
+            channel.close();
+        }
+    }
+
 }
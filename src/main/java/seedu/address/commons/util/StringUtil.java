@@ -65,4 +65,37 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, i.e. matches the regex class {@code \p{Alnum}}.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, i.e. matches the regex class {@code \d}.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code s} is made up of ASCII letters, digits and spaces, and starts with a letter or digit.
+     * This is equivalent to matching the regex {@code [\p{Alnum}][\p{Alnum} ]*}, without compiling a pattern.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAlphanumericWords(String s) {
+        requireNonNull(s);
+        if (s.isEmpty() || !isAsciiAlphanumeric(s.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -1,12 +1,14 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
@@ -30,6 +32,13 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an unmodifiable copy of the AddressBook as of the last command that modified it.
+     * Unlike {@link #getAddressBook()}, this can be called from any thread. The copy is only made when it is first
+     * asked for after the AddressBook changes, which waits for the command running at that time, if any.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -47,4 +56,15 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler given the error message when saving the address book in the background fails.
+     * The handler may be called from a thread other than the one that executed the command.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Blocks until every change made by the commands executed so far has been saved.
+     */
+    void flush();
 }
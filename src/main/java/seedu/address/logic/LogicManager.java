@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,9 +16,11 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,19 +32,52 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Marks the saved version as unknown, so that the next command saves the address book again. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final AsyncAddressBookSaver asyncSaver;
     private final AddressBookParser addressBookParser;
 
+    /** Held while a command runs, so that other threads can copy the address book in between commands. */
+    private final Object commandLock = new Object();
+
+    /** Version of the address book that was last saved, or handed to the async saver. */
+    private volatile long savedVersion;
+    /** Copy of the current address book, or null if it has changed since the last copy was asked for. */
+    private volatile AddressBookSnapshot snapshot;
+    /** Version of the address book that {@link #snapshot} was copied from. Guarded by {@link #commandLock}. */
+    private long snapshotVersion;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves the address book after every command that modifies it, before returning.
+     * The address book in {@code storage} is assumed to hold the current data of {@code model}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * If {@code isWriteBehind} is true, the address book is saved on a background thread after each command
+     * that modifies it, and save failures are reported through the handler set with
+     * {@link #setSaveFailureHandler(Consumer)}.
+     */
+    public LogicManager(Model model, Storage storage, boolean isWriteBehind) {
         this.model = model;
         this.storage = storage;
+        this.asyncSaver = isWriteBehind ? new AsyncAddressBookSaver(storage) : null;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBookVersion();
+
+        if (asyncSaver != null) {
+            asyncSaver.setFailureHandler(this::handleAsyncSaveFailure);
+        }
     }
 
     @Override
@@ -48,24 +86,82 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        synchronized (commandLock) {
+            try {
+                commandResult = command.execute(model);
+            } finally {
+                if (model.getAddressBookVersion() != snapshotVersion) {
+                    snapshot = null;
+                }
+            }
+        }
+
+        long version = model.getAddressBookVersion();
+        if (version == savedVersion) {
+            return commandResult;
+        }
+
+        if (asyncSaver != null) {
+            savedVersion = version;
+            asyncSaver.save(getAddressBookSnapshot());
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            savedVersion = version;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void flush() {
+        if (asyncSaver != null) {
+            asyncSaver.flush();
+        }
+    }
+
+    private void handleAsyncSaveFailure(IOException ioe) {
+        savedVersion = UNSAVED_VERSION;
+        saveFailureHandler.accept(getSaveFailureMessage(ioe));
+    }
+
+    private static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        AddressBookSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null) {
+            return currentSnapshot;
+        }
+        synchronized (commandLock) {
+            if (snapshot == null) {
+                snapshot = new AddressBookSnapshot(model.getAddressBook());
+                snapshotVersion = model.getAddressBookVersion();
+            }
+            return snapshot;
+        }
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
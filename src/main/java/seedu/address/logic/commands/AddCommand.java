@@ -12,6 +12,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddCommandParser;
+import seedu.address.logic.parser.CommandRegistration;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.Parser;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
@@ -88,4 +92,20 @@ public class AddCommand extends Command {
                 .add("toAdd", toAdd)
                 .toString();
     }
+
+    /**
+     * Supplies the parser of this command to the {@link CommandRegistry}.
+     */
+    public static class Registration implements CommandRegistration {
+
+        @Override
+        public String getCommandWord() {
+            return COMMAND_WORD;
+        }
+
+        @Override
+        public Parser<AddCommand> createParser(CommandRegistry registry) {
+            return new AddCommandParser();
+        }
+    }
 }
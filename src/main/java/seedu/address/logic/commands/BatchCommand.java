@@ -0,0 +1,170 @@
+package seedu.address.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.BatchCommandParser;
+import seedu.address.logic.parser.CommandRegistration;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Runs the commands in a batch file, one per line, as a single change to the address book.
+ *
+ * The commands run against a working copy of the address book, which replaces the address book once every line has
+ * run. The displayed person list is therefore refreshed once, and the address book is saved once, however many
+ * commands the file has. Indexes in the file refer to the person list as filtered by the earlier commands of the
+ * same file, starting from the full list.
+ *
+ * A line that fails is reported and skipped, and the remaining lines still run. If the file cannot be read, the
+ * address book is left unchanged.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    /** Lines starting with this are comments. */
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line, and saves the address book once at the end. "
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are skipped.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/onboarding.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s: %3$d succeeded, %4$d failed.";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_LINES_FAILED = "... and %1$d more failed lines.";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read batch file %1$s: %2$s";
+    public static final String MESSAGE_NESTED_BATCH = "A batch file cannot run another batch file.";
+
+    /** Number of failed lines whose errors are reported in full. */
+    public static final int MAX_REPORTED_FAILURES = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchCommand.class);
+
+    private final Path file;
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a {@code BatchCommand} that runs the commands in {@code file}, parsing them with
+     * {@code addressBookParser}.
+     */
+    public BatchCommand(Path file, AddressBookParser addressBookParser) {
+        requireNonNull(file);
+        requireNonNull(addressBookParser);
+        this.file = file;
+        this.addressBookParser = addressBookParser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Model workingModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+        long initialVersion = workingModel.getAddressBookVersion();
+
+        int commandCount = 0;
+        List<String> failures = new ArrayList<>();
+        int failureCount = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(FileUtil.openForReading(file), UTF_8))) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+                commandCount++;
+                try {
+                    run(commandText, workingModel);
+                } catch (CommandException | ParseException e) {
+                    failureCount++;
+                    if (failures.size() < MAX_REPORTED_FAILURES) {
+                        failures.add(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+                    }
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, file, StringUtil.getDetails(ioe)), ioe);
+        }
+
+        if (workingModel.getAddressBookVersion() != initialVersion) {
+            model.setAddressBook(workingModel.getAddressBook());
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+        logger.info("Ran " + commandCount + " commands from " + file + ", " + failureCount + " failed");
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS,
+                commandCount, file, commandCount - failureCount, failureCount));
+        failures.forEach(failure -> feedback.append('\n').append(failure));
+        if (failureCount > failures.size()) {
+            feedback.append('\n').append(String.format(MESSAGE_MORE_LINES_FAILED, failureCount - failures.size()));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    private void run(String commandText, Model workingModel) throws CommandException, ParseException {
+        Command command = addressBookParser.parseCommand(commandText);
+        if (command instanceof BatchCommand) {
+            throw new CommandException(MESSAGE_NESTED_BATCH);
+        }
+        command.execute(workingModel);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return file.equals(otherBatchCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+
+    /**
+     * Supplies the parser of this command to the {@link CommandRegistry}.
+     */
+    public static class Registration implements CommandRegistration {
+
+        @Override
+        public String getCommandWord() {
+            return COMMAND_WORD;
+        }
+
+        @Override
+        public Parser<BatchCommand> createParser(CommandRegistry registry) {
+            return new BatchCommandParser(new AddressBookParser(registry));
+        }
+    }
+}
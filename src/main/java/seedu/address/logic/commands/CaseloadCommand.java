@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.CaseloadCommandParser;
+import seedu.address.logic.parser.CommandRegistration;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.Parser;
+import seedu.address.model.Model;
+import seedu.address.model.person.Doctor;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the patients of a doctor, or reports the number of patients under every doctor.
+ */
+public class CaseloadCommand extends Command {
+
+    public static final String COMMAND_WORD = "caseload";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the patients under the specified doctor "
+            + "and displays them as a list with index numbers. "
+            + "If no doctor is specified, shows the number of patients under every doctor.\n"
+            + "Parameters: [" + PREFIX_DOCTOR + "DOCTOR]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_DOCTOR + "William Reed";
+
+    public static final String MESSAGE_CASELOADS = "Caseloads:\n%1$s";
+    public static final String MESSAGE_NO_DOCTORS = "No patients have been assigned a doctor.";
+
+    private final Doctor doctor;
+
+    /**
+     * Creates a CaseloadCommand that reports the caseload of every doctor.
+     */
+    public CaseloadCommand() {
+        this.doctor = null;
+    }
+
+    /**
+     * Creates a CaseloadCommand that lists the patients under {@code doctor}.
+     */
+    public CaseloadCommand(Doctor doctor) {
+        requireNonNull(doctor);
+        this.doctor = doctor;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        if (doctor != null) {
+            Set<Person> patients = model.getPersonsUnderDoctor(doctor);
+            model.updateFilteredPersonList(patients::contains);
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        }
+
+        Map<Doctor, Integer> caseloads = model.getDoctorCaseloads();
+        if (caseloads.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_DOCTORS);
+        }
+
+        StringBuilder caseloadList = new StringBuilder();
+        caseloads.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().name))
+                .forEach(entry -> caseloadList.append("• ").append(entry.getKey())
+                        .append(": ").append(entry.getValue()).append("\n"));
+        return new CommandResult(String.format(MESSAGE_CASELOADS, caseloadList.toString().trim()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CaseloadCommand)) {
+            return false;
+        }
+
+        CaseloadCommand otherCaseloadCommand = (CaseloadCommand) other;
+        return Objects.equals(doctor, otherCaseloadCommand.doctor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("doctor", doctor)
+                .toString();
+    }
+
+    /**
+     * Supplies the parser of this command to the {@link CommandRegistry}.
+     */
+    public static class Registration implements CommandRegistration {
+
+        @Override
+        public String getCommandWord() {
+            return COMMAND_WORD;
+        }
+
+        @Override
+        public Parser<CaseloadCommand> createParser(CommandRegistry registry) {
+            return new CaseloadCommandParser();
+        }
+    }
+}
@@ -2,6 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.logic.parser.CommandRegistration;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.Parser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 
@@ -20,4 +23,20 @@ public class ClearCommand extends Command {
         model.setAddressBook(new AddressBook());
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    /**
+     * Supplies the parser of this command to the {@link CommandRegistry}.
+     */
+    public static class Registration implements CommandRegistration {
+
+        @Override
+        public String getCommandWord() {
+            return COMMAND_WORD;
+        }
+
+        @Override
+        public Parser<ClearCommand> createParser(CommandRegistry registry) {
+            return arguments -> new ClearCommand();
+        }
+    }
 }
@@ -8,6 +8,10 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CommandRegistration;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.DeleteCommandParser;
+import seedu.address.logic.parser.Parser;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
@@ -66,4 +70,20 @@ public class DeleteCommand extends Command {
                 .add("targetIndex", targetIndex)
                 .toString();
     }
+
+    /**
+     * Supplies the parser of this command to the {@link CommandRegistry}.
+     */
+    public static class Registration implements CommandRegistration {
+
+        @Override
+        public String getCommandWord() {
+            return COMMAND_WORD;
+        }
+
+        @Override
+        public Parser<DeleteCommand> createParser(CommandRegistry registry) {
+            return new DeleteCommandParser();
+        }
+    }
 }
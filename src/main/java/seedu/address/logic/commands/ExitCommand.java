@@ -1,5 +1,8 @@
 package seedu.address.logic.commands;
 
+import seedu.address.logic.parser.CommandRegistration;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.Parser;
 import seedu.address.model.Model;
 
 /**
@@ -16,4 +19,19 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
 
+    /**
+     * Supplies the parser of this command to the {@link CommandRegistry}.
+     */
+    public static class Registration implements CommandRegistration {
+
+        @Override
+        public String getCommandWord() {
+            return COMMAND_WORD;
+        }
+
+        @Override
+        public Parser<ExitCommand> createParser(CommandRegistry registry) {
+            return arguments -> new ExitCommand();
+        }
+    }
 }
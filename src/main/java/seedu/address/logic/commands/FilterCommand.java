@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ANY_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOT_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.CommandRegistration;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.FilterCommandParser;
+import seedu.address.logic.parser.Parser;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagFilter;
+
+/**
+ * Lists all patients in address book whose tags match the given tag filter.
+ * Tag matching is case sensitive.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all patients who have every tag given with "
+            + PREFIX_TAG + ", at least one of the tags given with " + PREFIX_ANY_TAG
+            + " and none of the tags given with " + PREFIX_NOT_TAG
+            + ", and displays them as a list with index numbers.\n"
+            + "Parameters: [" + PREFIX_TAG + "TAG]... [" + PREFIX_ANY_TAG + "TAG]... [" + PREFIX_NOT_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "chronic " + PREFIX_ANY_TAG + "allergy "
+            + PREFIX_ANY_TAG + "elderly " + PREFIX_NOT_TAG + "discharged";
+
+    private final TagFilter filter;
+
+    /**
+     * Creates a FilterCommand to list the patients whose tags match {@code filter}.
+     */
+    public FilterCommand(TagFilter filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Person> matches = model.getPersonsMatchingTags(filter);
+        model.updateFilteredPersonList(matches::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return filter.equals(otherFilterCommand.filter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filter", filter)
+                .toString();
+    }
+
+    /**
+     * Supplies the parser of this command to the {@link CommandRegistry}.
+     */
+    public static class Registration implements CommandRegistration {
+
+        @Override
+        public String getCommandWord() {
+            return COMMAND_WORD;
+        }
+
+        @Override
+        public Parser<FilterCommand> createParser(CommandRegistry registry) {
+            return new FilterCommandParser();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.CommandRegistration;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.FindMedCommandParser;
+import seedu.address.logic.parser.Parser;
+import seedu.address.model.Model;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds and lists all patients in address book who take any of the given medicines.
+ * Medicine matching is case insensitive.
+ */
+public class FindMedCommand extends Command {
+
+    public static final String COMMAND_WORD = "findmed";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients taking any of "
+            + "the specified medicines (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Parameters: " + PREFIX_MEDICINE + "MEDICINE [" + PREFIX_MEDICINE + "MEDICINE]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_MEDICINE + "Paracetamol " + PREFIX_MEDICINE + "Vitamin C";
+
+    private final Set<Medicine> medicines;
+
+    /**
+     * Creates a FindMedCommand to list the patients taking any of the specified {@code medicines}.
+     */
+    public FindMedCommand(Set<Medicine> medicines) {
+        requireNonNull(medicines);
+        this.medicines = new HashSet<>(medicines);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Person> matches = model.getPersonsTakingAnyMedicine(medicines);
+        model.updateFilteredPersonList(matches::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindMedCommand)) {
+            return false;
+        }
+
+        FindMedCommand otherFindMedCommand = (FindMedCommand) other;
+        return medicines.equals(otherFindMedCommand.medicines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("medicines", medicines)
+                .toString();
+    }
+
+    /**
+     * Supplies the parser of this command to the {@link CommandRegistry}.
+     */
+    public static class Registration implements CommandRegistration {
+
+        @Override
+        public String getCommandWord() {
+            return COMMAND_WORD;
+        }
+
+        @Override
+        public Parser<FindMedCommand> createParser(CommandRegistry registry) {
+            return new FindMedCommandParser();
+        }
+    }
+}
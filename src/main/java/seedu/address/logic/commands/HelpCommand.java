@@ -1,5 +1,8 @@
 package seedu.address.logic.commands;
 
+import seedu.address.logic.parser.CommandRegistration;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.Parser;
 import seedu.address.model.Model;
 
 /**
@@ -18,4 +21,20 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    /**
+     * Supplies the parser of this command to the {@link CommandRegistry}.
+     */
+    public static class Registration implements CommandRegistration {
+
+        @Override
+        public String getCommandWord() {
+            return COMMAND_WORD;
+        }
+
+        @Override
+        public Parser<HelpCommand> createParser(CommandRegistry registry) {
+            return arguments -> new HelpCommand();
+        }
+    }
 }
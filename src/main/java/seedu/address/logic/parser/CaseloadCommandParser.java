@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.CaseloadCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new CaseloadCommand object
+ */
+public class CaseloadCommandParser implements Parser<CaseloadCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CaseloadCommand
+     * and returns a CaseloadCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CaseloadCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DOCTOR);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CaseloadCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DOCTOR);
+        Optional<String> doctorName = argMultimap.getValue(PREFIX_DOCTOR);
+        if (doctorName.isEmpty()) {
+            return new CaseloadCommand();
+        }
+
+        if (doctorName.get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CaseloadCommand.MESSAGE_USAGE));
+        }
+        return new CaseloadCommand(ParserUtil.parseDoctor(doctorName.get()));
+    }
+
+}
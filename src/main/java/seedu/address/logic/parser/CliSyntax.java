@@ -12,6 +12,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_DOCTOR = new Prefix("d/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_ANY_TAG = new Prefix("any/");
+    public static final Prefix PREFIX_NOT_TAG = new Prefix("not/");
     public static final Prefix PREFIX_MEDICINE = new Prefix("med/");
 
 }
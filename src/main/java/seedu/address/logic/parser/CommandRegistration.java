@@ -0,0 +1,25 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Supplies the parser of a command to a {@link CommandRegistry}.
+ *
+ * Each command has its own registration, listed as a service provider in
+ * {@code META-INF/services/seedu.address.logic.parser.CommandRegistration}, where
+ * {@link CommandRegistry#withBuiltInCommands()} finds it. A command is thus added without editing the registry.
+ * Registrations must have a public no-argument constructor.
+ */
+public interface CommandRegistration {
+
+    /**
+     * Returns the word that the command is invoked with.
+     */
+    String getCommandWord();
+
+    /**
+     * Returns the parser of the command, which {@code registry} reuses for every input with its command word.
+     * {@code registry} is also given to commands that parse other commands.
+     */
+    Parser<? extends Command> createParser(CommandRegistry registry);
+}
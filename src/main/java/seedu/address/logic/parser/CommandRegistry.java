@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps command words to the parsers of their commands.
+ *
+ * Parsers are reused across every input with their command word, so a registered parser must not keep any state
+ * between calls to {@link Parser#parse(String)}.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word is already registered: %s";
+
+    private final Map<String, Parser<? extends Command>> parsersByCommandWord = new HashMap<>();
+
+    /**
+     * Returns a {@code CommandRegistry} with all the built-in commands registered, as found from their
+     * {@link CommandRegistration}s.
+     *
+     * @throws IllegalArgumentException if two built-in commands have the same command word.
+     */
+    public static CommandRegistry withBuiltInCommands() {
+        CommandRegistry registry = new CommandRegistry();
+        for (CommandRegistration registration
+                : ServiceLoader.load(CommandRegistration.class, CommandRegistration.class.getClassLoader())) {
+            registry.register(registration.getCommandWord(), registration.createParser(registry));
+        }
+        return registry;
+    }
+
+    /**
+     * Registers {@code parser} as the parser of the command with {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if a parser is already registered for {@code commandWord}.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        checkArgument(!parsersByCommandWord.containsKey(commandWord),
+                String.format(MESSAGE_DUPLICATE_COMMAND_WORD, commandWord));
+        parsersByCommandWord.put(commandWord, parser);
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        requireNonNull(commandWord);
+        return Optional.ofNullable(parsersByCommandWord.get(commandWord));
+    }
+}
@@ -94,7 +94,7 @@ public class ParserUtil {
         if (!Doctor.isValidDoctor(trimmedDoctor)) {
             throw new ParseException(Doctor.MESSAGE_CONSTRAINTS);
         }
-        return new Doctor(trimmedDoctor);
+        return Doctor.of(trimmedDoctor);
     }
 
     /**
@@ -124,7 +124,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -151,7 +151,7 @@ public class ParserUtil {
         if (!Medicine.isValidMedicineName(trimmedMedicine)) {
             throw new ParseException(Medicine.MESSAGE_CONSTRAINTS);
         }
-        return new Medicine(trimmedMedicine);
+        return Medicine.of(trimmedMedicine);
     }
 
     /**
@@ -2,20 +2,52 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Doctor;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+import seedu.address.model.person.TagBitmapIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * What a large address book defers is its indexes, which are each built on first query. Its persons may also hold
+ * only their names until their other fields are needed, if the storage reads them that way.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PersonIndex<String> nameTokenIndex = new PersonIndex<>(person -> person.getName().getSearchTokens());
+    private final PersonIndex<String> medicineIndex = new PersonIndex<>(person -> person.getMedicines().stream()
+            .map(medicine -> Medicine.toSearchKey(medicine.medicineName))
+            .collect(Collectors.toList()));
+    private final PersonIndex<Doctor> doctorIndex = new PersonIndex<>(person -> person.getDoctor() == null
+            || person.getDoctor().name.isEmpty() ? List.of() : List.of(person.getDoctor()));
+    private final List<PersonIndex<?>> indexes = List.of(nameTokenIndex, medicineIndex, doctorIndex);
+    private final TagBitmapIndex tagIndex = new TagBitmapIndex();
+    /**
+     * The indexes that are in sync with the person list. An index is only built when it is first queried, so
+     * loading a large address book does not pay for indexes that the session never uses.
+     */
+    private final Set<Object> builtIndexes = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long version;
+    private AddressBookChange lastChange = AddressBookChange.start();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -36,6 +68,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        // the copy holds the same persons, so its changes can carry on from those of the original
+        lastChange = toBeCopied.getLastChange();
     }
 
     //// list overwrite operations
@@ -46,6 +80,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        indexes.stream().filter(builtIndexes::contains).forEach(index -> index.setAll(List.of()));
+        if (builtIndexes.contains(tagIndex)) {
+            tagIndex.setAll(List.of());
+        }
+        builtIndexes.clear();
+        version++;
+        AddressBookChange.Kind kind = persons.isEmpty() ? AddressBookChange.Kind.CLEAR : AddressBookChange.Kind.RESET;
+        lastChange = lastChange.then(kind, null, null);
     }
 
     /**
@@ -67,12 +109,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book whose name is {@code name}, if any.
+     */
+    public Optional<Person> getPerson(Name name) {
+        requireNonNull(name);
+        return persons.get(name);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        indexes.stream().filter(builtIndexes::contains).forEach(index -> index.add(p));
+        if (builtIndexes.contains(tagIndex)) {
+            tagIndex.add(p);
+        }
+        version++;
+        lastChange = lastChange.then(AddressBookChange.Kind.ADD, null, p);
     }
 
     /**
@@ -83,7 +139,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        Person storedTarget = getStoredPerson(target);
         persons.setPerson(target, editedPerson);
+        indexes.stream().filter(builtIndexes::contains).forEach(index -> index.set(storedTarget, editedPerson));
+        if (builtIndexes.contains(tagIndex)) {
+            tagIndex.set(storedTarget, editedPerson);
+        }
+        version++;
+        lastChange = lastChange.then(AddressBookChange.Kind.SET, storedTarget, editedPerson);
     }
 
     /**
@@ -91,7 +154,111 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        Person storedKey = getStoredPerson(key);
         persons.remove(key);
+        indexes.stream().filter(builtIndexes::contains).forEach(index -> index.remove(storedKey));
+        if (builtIndexes.contains(tagIndex)) {
+            tagIndex.remove(storedKey);
+        }
+        version++;
+        lastChange = lastChange.then(AddressBookChange.Kind.REMOVE, storedKey, null);
+    }
+
+    /**
+     * Returns a number that is incremented every time the contents of this address book are modified.
+     * Two calls returning the same number means no modification happened in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public AddressBookChange getLastChange() {
+        return lastChange;
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return getBuilt(nameTokenIndex).getAny(keywords.stream().map(Name::toSearchToken).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the persons taking any of {@code medicines}. Medicine names are matched ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsTakingAnyMedicine(Collection<Medicine> medicines) {
+        requireNonNull(medicines);
+        return getBuilt(medicineIndex).getAny(medicines.stream()
+                .map(medicine -> Medicine.toSearchKey(medicine.medicineName))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the persons under the care of {@code doctor}.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsUnderDoctor(Doctor doctor) {
+        requireNonNull(doctor);
+        return getBuilt(doctorIndex).get(doctor);
+    }
+
+    /**
+     * Returns the number of persons under the care of each doctor.
+     * Persons without a doctor are not counted.
+     */
+    public Map<Doctor, Integer> getDoctorCaseloads() {
+        return getBuilt(doctorIndex).getSizes();
+    }
+
+    /**
+     * Returns the persons whose tags match {@code filter}.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsMatchingTags(TagFilter filter) {
+        requireNonNull(filter);
+        return getBuilt(tagIndex, tagIndex::setAll).getMatching(filter);
+    }
+
+    /**
+     * Builds every index that has not been built yet.
+     * Queries only read the indexes once they are built, so an address book that is no longer modified can then be
+     * queried by several threads at once.
+     */
+    public void buildIndexes() {
+        indexes.forEach(this::getBuilt);
+        getBuilt(tagIndex, tagIndex::setAll);
+    }
+
+    /**
+     * Returns {@code index} after building it from the person list if it has not been built yet.
+     */
+    private <T extends PersonIndex<?>> T getBuilt(T index) {
+        return getBuilt(index, index::setAll);
+    }
+
+    /**
+     * Returns {@code index} after building it from the person list with {@code builder} if it has not been built yet.
+     * Nothing is modified if it has.
+     */
+    private <T> T getBuilt(T index, Consumer<List<Person>> builder) {
+        if (!builtIndexes.contains(index)) {
+            builder.accept(getPersonList());
+            builtIndexes.add(index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the instance stored in this address book that has the same identity as {@code person},
+     * or {@code person} itself if there is none.
+     */
+    private Person getStoredPerson(Person person) {
+        requireNonNull(person);
+        return persons.get(person.getName()).orElse(person);
     }
 
     //// util methods
@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A change made to an address book by one of its operations, such as adding or removing a person.
+ *
+ * Each change is linked to the change made after it, so that a storage that remembers the last change it saved can
+ * find the changes made since then without comparing person lists. Changes are only linked forward, so the changes
+ * that nothing remembers any more can be garbage collected.
+ *
+ * Every address book whose last change is the same {@code AddressBookChange} holds the same persons in the same order.
+ * A copy of an address book can therefore carry on from the last change of the original. If the original and a copy
+ * are both changed, only the first change made is linked, and the other starts a log of its own.
+ */
+public final class AddressBookChange {
+
+    /**
+     * The kinds of changes.
+     */
+    public enum Kind {
+        /** {@link #getPerson()} was added at the end of the list. */
+        ADD,
+        /** {@link #getTarget()} was replaced in place by {@link #getPerson()}. */
+        SET,
+        /** {@link #getTarget()} was removed. */
+        REMOVE,
+        /** Every person was removed. */
+        CLEAR,
+        /** The whole list was replaced by a list that is not empty. */
+        RESET
+    }
+
+    private final Kind kind;
+    private final Person target;
+    private final Person person;
+    private final AtomicReference<AddressBookChange> next = new AtomicReference<>();
+
+    private AddressBookChange(Kind kind, Person target, Person person) {
+        this.kind = kind;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Returns a change to start the log of an address book whose earlier changes are not known.
+     * No changes lead up to it, so a storage that did not save this very address book cannot follow on from it.
+     */
+    public static AddressBookChange start() {
+        return new AddressBookChange(null, null, null);
+    }
+
+    /**
+     * Records a change made right after this one, and returns it.
+     */
+    AddressBookChange then(Kind kind, Person target, Person person) {
+        requireNonNull(kind);
+        AddressBookChange change = new AddressBookChange(kind, target, person);
+        // if another address book has already carried on from this change, this one starts a log of its own
+        next.compareAndSet(null, change);
+        return change;
+    }
+
+    /**
+     * Returns the changes made after this one up to and including {@code last}, oldest first, or an empty Optional if
+     * {@code last} was not made after this one or more than {@code maxChanges} changes were made.
+     */
+    public Optional<List<AddressBookChange>> getChangesUntil(AddressBookChange last, int maxChanges) {
+        requireNonNull(last);
+        List<AddressBookChange> changes = new ArrayList<>();
+        AddressBookChange change = this;
+        while (change != last) {
+            change = change.next.get();
+            if (change == null || changes.size() == maxChanges) {
+                return Optional.empty();
+            }
+            changes.add(change);
+        }
+        return Optional.of(changes);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the person that was replaced or removed, or null if there was none.
+     */
+    public Person getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the person that was added or put in place of the target, or null if there was none.
+     */
+    public Person getPerson() {
+        return person;
+    }
+}
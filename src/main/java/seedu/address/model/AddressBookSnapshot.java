@@ -0,0 +1,139 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Doctor;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagFilter;
+
+/**
+ * An unmodifiable copy of the persons in an address book at one point in time.
+ * Since {@code Person} is immutable, only the list is copied, and the snapshot can safely be read by another thread
+ * while the original address book keeps changing.
+ *
+ * The queries are answered from indexes like those of {@link AddressBook}. They are all built by the first query, and
+ * only read afterwards, so any number of threads can query the same snapshot without locking.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final AddressBookChange lastChange;
+    /** Copy of the persons with every index built, made by the first query. */
+    private volatile AddressBook indexedAddressBook;
+
+    /**
+     * Creates a snapshot of the persons currently in {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        this(requireNonNull(source).getPersonList(), source.getLastChange());
+    }
+
+    /**
+     * Creates a snapshot of {@code persons}.
+     */
+    public AddressBookSnapshot(List<Person> persons) {
+        this(persons, AddressBookChange.start());
+    }
+
+    private AddressBookSnapshot(List<Person> persons, AddressBookChange lastChange) {
+        requireNonNull(persons);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        this.lastChange = lastChange;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public AddressBookChange getLastChange() {
+        return lastChange;
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsWithNameKeywords(Collection<String> keywords) {
+        return getIndexedAddressBook().getPersonsWithNameKeywords(keywords);
+    }
+
+    /**
+     * Returns the persons taking any of {@code medicines}. Medicine names are matched ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsTakingAnyMedicine(Collection<Medicine> medicines) {
+        return getIndexedAddressBook().getPersonsTakingAnyMedicine(medicines);
+    }
+
+    /**
+     * Returns the persons under the care of {@code doctor}.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsUnderDoctor(Doctor doctor) {
+        return getIndexedAddressBook().getPersonsUnderDoctor(doctor);
+    }
+
+    /**
+     * Returns the persons whose tags match {@code filter}.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getPersonsMatchingTags(TagFilter filter) {
+        return getIndexedAddressBook().getPersonsMatchingTags(filter);
+    }
+
+    /**
+     * Returns the indexed copy of the persons, making it if no query has yet.
+     * Only the first queries wait, for the copy to be made; later ones just read it.
+     */
+    private AddressBook getIndexedAddressBook() {
+        AddressBook addressBook = indexedAddressBook;
+        if (addressBook != null) {
+            return addressBook;
+        }
+        synchronized (this) {
+            if (indexedAddressBook == null) {
+                AddressBook newAddressBook = new AddressBook(this);
+                newAddressBook.buildIndexes();
+                indexedAddressBook = newAddressBook;
+            }
+            return indexedAddressBook;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Doctor;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * The API of the Model component.
@@ -52,6 +58,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes every time the address book is modified.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -76,6 +87,36 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsWithNameKeywords(Collection<String> keywords);
+
+    /**
+     * Returns the persons taking any of {@code medicines}. Medicine names are matched ignoring case.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsTakingAnyMedicine(Collection<Medicine> medicines);
+
+    /**
+     * Returns the persons under the care of {@code doctor}.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsUnderDoctor(Doctor doctor);
+
+    /**
+     * Returns the number of persons under the care of each doctor.
+     * Persons without a doctor are not counted.
+     */
+    Map<Doctor, Integer> getDoctorCaseloads();
+
+    /**
+     * Returns the persons whose tags match {@code filter}.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> getPersonsMatchingTags(TagFilter filter);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,7 +14,10 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Doctor;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagFilter;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -29,7 +35,8 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book of " + addressBook.getPersonList().size()
+                + " persons and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
@@ -87,6 +94,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -111,6 +123,35 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public Set<Person> getPersonsWithNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonsWithNameKeywords(keywords);
+    }
+
+    @Override
+    public Set<Person> getPersonsTakingAnyMedicine(Collection<Medicine> medicines) {
+        requireNonNull(medicines);
+        return addressBook.getPersonsTakingAnyMedicine(medicines);
+    }
+
+    @Override
+    public Set<Person> getPersonsUnderDoctor(Doctor doctor) {
+        requireNonNull(doctor);
+        return addressBook.getPersonsUnderDoctor(doctor);
+    }
+
+    @Override
+    public Map<Doctor, Integer> getDoctorCaseloads() {
+        return addressBook.getDoctorCaseloads();
+    }
+
+    @Override
+    public Set<Person> getPersonsMatchingTags(TagFilter filter) {
+        requireNonNull(filter);
+        return addressBook.getPersonsMatchingTags(filter);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
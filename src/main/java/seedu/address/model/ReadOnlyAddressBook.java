@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the last change made to this address book, from which later changes can be followed.
+     * Address books with the same last change hold the same persons in the same order.
+     */
+    AddressBookChange getLastChange();
+
 }
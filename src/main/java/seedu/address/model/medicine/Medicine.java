@@ -3,6 +3,12 @@ package seedu.address.model.medicine;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Medicine in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidMedicineName(String)}
@@ -12,6 +18,9 @@ public class Medicine {
     public static final String MESSAGE_CONSTRAINTS = "Medicine names should be alphanumeric and can contain spaces";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    /** Canonical instances handed out by {@link #of(String)}, keyed by medicine name. */
+    private static final ConcurrentMap<String, Medicine> CANONICAL_INSTANCES = new ConcurrentHashMap<>();
+
     public final String medicineName;
 
     /**
@@ -25,11 +34,31 @@ public class Medicine {
         this.medicineName = medicineName;
     }
 
+    /**
+     * Returns the canonical {@code Medicine} with the given medicine name, creating it on first use.
+     * Equal medicines share a single instance.
+     *
+     * @param medicineName A valid medicine name.
+     */
+    public static Medicine of(String medicineName) {
+        requireNonNull(medicineName);
+        Medicine canonical = CANONICAL_INSTANCES.get(medicineName);
+        return canonical != null ? canonical : CANONICAL_INSTANCES.computeIfAbsent(medicineName, Medicine::new);
+    }
+
     /**
      * Returns true if a given string is a valid medicine name.
      */
     public static boolean isValidMedicineName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWords(test);
+    }
+
+    /**
+     * Normalizes {@code medicineName} so that medicine names can be matched case-insensitively.
+     */
+    public static String toSearchKey(String medicineName) {
+        requireNonNull(medicineName);
+        return medicineName.toLowerCase(Locale.ROOT);
     }
 
     @Override
@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's doctor in the address book.
  * Guarantees: immutable; is always valid
@@ -14,6 +19,9 @@ public class Doctor {
 
     public static final String VALIDATION_REGEX = "^([\\p{Alnum}][\\p{Alnum} ]*)?$";
 
+    /** Canonical instances handed out by {@link #of(String)}, keyed by doctor's name. */
+    private static final ConcurrentMap<String, Doctor> CANONICAL_INSTANCES = new ConcurrentHashMap<>();
+
     public final String name;
 
     /**
@@ -27,6 +35,18 @@ public class Doctor {
         name = doctor;
     }
 
+    /**
+     * Returns the canonical {@code Doctor} with the given name, creating it on first use.
+     * All patients of the same doctor then share a single instance.
+     *
+     * @param doctor A valid doctor's name.
+     */
+    public static Doctor of(String doctor) {
+        requireNonNull(doctor);
+        Doctor canonical = CANONICAL_INSTANCES.get(doctor);
+        return canonical != null ? canonical : CANONICAL_INSTANCES.computeIfAbsent(doctor, Doctor::new);
+    }
+
     @Override
     public String toString() {
         return name;
@@ -43,7 +63,7 @@ public class Doctor {
      * Returns true if a given string is a valid name for a doctor.
      */
     public static boolean isValidDoctor(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.isEmpty() || StringUtil.isAlphanumericWords(test);
     }
 
     @Override
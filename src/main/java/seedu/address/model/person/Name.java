@@ -3,6 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -35,9 +41,35 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return StringUtil.isAlphanumericWords(test);
+    }
+
+    /**
+     * Returns the words of this name, normalized with {@link #toSearchToken(String)}.
+     */
+    public List<String> getSearchTokens() {
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        while (start < fullName.length()) {
+            int end = fullName.indexOf(' ', start);
+            if (end == -1) {
+                end = fullName.length();
+            }
+            if (end > start) {
+                tokens.add(toSearchToken(fullName.substring(start, end)));
+            }
+            start = end + 1;
+        }
+        return tokens;
     }
 
+    /**
+     * Normalizes {@code word} so that words of a name can be matched case-insensitively.
+     */
+    public static String toSearchToken(String word) {
+        requireNonNull(word);
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
 
     @Override
     public String toString() {
@@ -2,10 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.lang.ref.SoftReference;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.medicine.Medicine;
@@ -14,6 +16,7 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * A person may hold only its name, and load its other fields when they are first needed.
  */
 public class Person {
 
@@ -25,8 +28,12 @@ public class Person {
     // Data fields
     private final Address address;
     private final Doctor doctor;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Medicine> medicines = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Medicine> medicines;
+
+    // Loads the fields above, other than the name, for a person that does not hold them
+    private final Supplier<Person> loader;
+    private volatile SoftReference<Person> loaded;
 
     /**
      * Every field must be present and not null.
@@ -39,8 +46,43 @@ public class Person {
         this.email = email;
         this.address = address;
         this.doctor = doctor;
-        this.tags.addAll(tags);
-        this.medicines.addAll(medicines);
+        this.tags = new HashSet<>(tags);
+        this.medicines = new HashSet<>(medicines);
+        this.loader = null;
+    }
+
+    /**
+     * Creates a person that holds only {@code name}, and gets its other fields from the person {@code loader} returns
+     * when they are first needed. The loaded fields are only softly held, so {@code loader} is asked again if they
+     * were dropped under memory pressure. It must always return a person with the same name.
+     */
+    public Person(Name name, Supplier<Person> loader) {
+        requireAllNonNull(name, loader);
+        this.name = name;
+        this.phone = null;
+        this.email = null;
+        this.address = null;
+        this.doctor = null;
+        this.tags = null;
+        this.medicines = null;
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the person holding the fields of this person, which is this person itself unless it loads its fields.
+     */
+    private Person getDetails() {
+        if (loader == null) {
+            return this;
+        }
+        SoftReference<Person> reference = loaded;
+        Person details = reference == null ? null : reference.get();
+        if (details == null) {
+            details = loader.get();
+            assert details.loader == null && details.name.equals(name);
+            loaded = new SoftReference<>(details);
+        }
+        return details;
     }
 
     public Name getName() {
@@ -48,19 +90,19 @@ public class Person {
     }
 
     public Phone getPhone() {
-        return phone;
+        return getDetails().phone;
     }
 
     public Email getEmail() {
-        return email;
+        return getDetails().email;
     }
 
     public Address getAddress() {
-        return address;
+        return getDetails().address;
     }
 
     public Doctor getDoctor() {
-        return doctor;
+        return getDetails().doctor;
     }
 
     /**
@@ -68,7 +110,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return Collections.unmodifiableSet(getDetails().tags);
     }
 
     /**
@@ -76,7 +118,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Medicine> getMedicines() {
-        return Collections.unmodifiableSet(medicines);
+        return Collections.unmodifiableSet(getDetails().medicines);
     }
 
     /**
@@ -107,32 +149,36 @@ public class Person {
             return false;
         }
 
-        Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
-                && address.equals(otherPerson.address)
-                && doctor.equals(otherPerson.doctor)
-                && tags.equals(otherPerson.tags)
-                && medicines.equals(otherPerson.medicines);
+        Person details = getDetails();
+        Person otherDetails = ((Person) other).getDetails();
+        return details.name.equals(otherDetails.name)
+                && details.phone.equals(otherDetails.phone)
+                && details.email.equals(otherDetails.email)
+                && details.address.equals(otherDetails.address)
+                && details.doctor.equals(otherDetails.doctor)
+                && details.tags.equals(otherDetails.tags)
+                && details.medicines.equals(otherDetails.medicines);
     }
 
     @Override
     public int hashCode() {
+        Person details = getDetails();
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, medicines);
+        return Objects.hash(details.name, details.phone, details.email, details.address, details.tags,
+                details.medicines);
     }
 
     @Override
     public String toString() {
+        Person details = getDetails();
         return new ToStringBuilder(this)
-                .add("name", name)
-                .add("phone", phone)
-                .add("email", email)
-                .add("address", address)
-                .add("doctor", doctor)
-                .add("tags", tags)
-                .add("medicines", medicines)
+                .add("name", details.name)
+                .add("phone", details.phone)
+                .add("email", details.email)
+                .add("address", details.address)
+                .add("doctor", details.doctor)
+                .add("tags", details.tags)
+                .add("medicines", details.medicines)
                 .toString();
     }
 
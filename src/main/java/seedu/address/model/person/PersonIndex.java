@@ -0,0 +1,111 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A secondary index from keys to the persons having that key, e.g. from name tokens to persons.
+ * The keys of a person are derived using the key extractor given at construction.
+ *
+ * Persons are tracked by reference, so the index must be given the same {@code Person} instances that are
+ * stored in the address book. The owner of the index is responsible for keeping it in sync with the
+ * person list on every mutation.
+ */
+public class PersonIndex<K> {
+
+    private final Function<Person, Collection<K>> keyExtractor;
+    private final Map<K, Set<Person>> personsByKey = new HashMap<>();
+
+    /**
+     * Creates an empty {@code PersonIndex} that indexes persons under the keys returned by {@code keyExtractor}.
+     */
+    public PersonIndex(Function<Person, Collection<K>> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Indexes {@code person} under each of its keys.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (K key : keyExtractor.apply(person)) {
+            personsByKey.computeIfAbsent(key, unused -> newPersonSet()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (K key : keyExtractor.apply(person)) {
+            Set<Person> persons = personsByKey.get(key);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} in the index with {@code editedPerson}.
+     */
+    public void set(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setAll(Collection<Person> persons) {
+        requireNonNull(persons);
+        personsByKey.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons indexed under {@code key}.
+     */
+    public Set<Person> get(K key) {
+        Set<Person> persons = personsByKey.get(key);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the persons indexed under at least one of {@code keys}.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getAny(Collection<K> keys) {
+        requireNonNull(keys);
+        Set<Person> matches = newPersonSet();
+        for (K key : keys) {
+            matches.addAll(get(key));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons indexed under each key.
+     */
+    public Map<K, Integer> getSizes() {
+        Map<K, Integer> sizes = new HashMap<>();
+        personsByKey.forEach((key, persons) -> sizes.put(key, persons.size()));
+        return sizes;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+
+/**
+ * An index from tags to the persons having that tag, stored as one bitset per tag.
+ *
+ * Each person is given a slot number when it is added. Slots are stable: removing or editing a person does not move
+ * any other person to a different slot, so the bitsets stay valid however the person list itself is reordered.
+ * Freed slots are reused by later additions to keep the bitsets dense.
+ *
+ * As with {@link PersonIndex}, persons are tracked by reference and the owner is responsible for keeping the index
+ * in sync with the person list on every mutation.
+ */
+public class TagBitmapIndex {
+
+    private final Map<Person, Integer> slotsByPerson = new IdentityHashMap<>();
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet occupiedSlots = new BitSet();
+    private final Map<Tag, BitSet> slotsByTag = new HashMap<>();
+
+    /**
+     * Assigns {@code person} a slot and indexes it under each of its tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int slot = freeSlots.isEmpty() ? personsBySlot.size() : freeSlots.pop();
+        if (slot == personsBySlot.size()) {
+            personsBySlot.add(person);
+        } else {
+            personsBySlot.set(slot, person);
+        }
+        slotsByPerson.put(person, slot);
+        occupiedSlots.set(slot);
+        setTags(person, slot);
+    }
+
+    /**
+     * Removes {@code person} from the index and frees its slot.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slotsByPerson.remove(person);
+        if (slot == null) {
+            return;
+        }
+        clearTags(person, slot);
+        personsBySlot.set(slot, null);
+        occupiedSlots.clear(slot);
+        freeSlots.push(slot);
+    }
+
+    /**
+     * Replaces {@code target} in the index with {@code editedPerson}, which takes over the slot of {@code target}.
+     */
+    public void set(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        Integer slot = slotsByPerson.remove(target);
+        if (slot == null) {
+            add(editedPerson);
+            return;
+        }
+        clearTags(target, slot);
+        personsBySlot.set(slot, editedPerson);
+        slotsByPerson.put(editedPerson, slot);
+        setTags(editedPerson, slot);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setAll(Collection<Person> persons) {
+        requireNonNull(persons);
+        slotsByPerson.clear();
+        personsBySlot.clear();
+        freeSlots.clear();
+        occupiedSlots.clear();
+        slotsByTag.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons matching {@code filter}.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> getMatching(TagFilter filter) {
+        requireNonNull(filter);
+        // copied with or() rather than clone(), which may trim the bits being copied, so that queries only read
+        BitSet matches = new BitSet();
+        matches.or(occupiedSlots);
+
+        for (Tag tag : filter.requiredTags) {
+            matches.and(getSlots(tag));
+        }
+
+        if (!filter.anyTags.isEmpty()) {
+            BitSet anyMatches = new BitSet();
+            for (Tag tag : filter.anyTags) {
+                anyMatches.or(getSlots(tag));
+            }
+            matches.and(anyMatches);
+        }
+
+        for (Tag tag : filter.excludedTags) {
+            matches.andNot(getSlots(tag));
+        }
+
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            persons.add(personsBySlot.get(slot));
+        }
+        return persons;
+    }
+
+    private BitSet getSlots(Tag tag) {
+        BitSet slots = slotsByTag.get(tag);
+        return slots == null ? new BitSet() : slots;
+    }
+
+    private void setTags(Person person, int slot) {
+        for (Tag tag : person.getTags()) {
+            slotsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+    }
+
+    private void clearTags(Person person, int slot) {
+        for (Tag tag : person.getTags()) {
+            BitSet slots = slotsByTag.get(tag);
+            if (slots == null) {
+                continue;
+            }
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                slotsByTag.remove(tag);
+            }
+        }
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +23,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Alongside the list, persons are indexed by their {@code Name} (the identity used by
+ * {@code Person#isSamePerson(Person)}) so that identity checks do not need to scan the whole list. The position of
+ * each person is indexed as well, so that replacing a person does not scan the list either. Removing a person still
+ * shifts the persons after it, so the positions are then recomputed the next time they are needed.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +35,24 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<Name, Person> personsByName = new HashMap<>();
+    /** Position in {@code internalList} of each person, by name, or null if it has to be recomputed. */
+    private Map<Name, Integer> positionsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list whose name is {@code name}, if any.
+     */
+    public Optional<Person> get(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
     }
 
     /**
@@ -46,6 +65,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+        if (positionsByName != null) {
+            positionsByName.put(toAdd.getName(), internalList.size() - 1);
+        }
     }
 
     /**
@@ -56,8 +79,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(personsByName.get(target.getName()))) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +87,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = getPositions().remove(target.getName());
         internalList.set(index, editedPerson);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        positionsByName.put(editedPerson.getName(), index);
     }
 
     /**
@@ -74,14 +100,24 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(personsByName.get(toRemove.getName()))) {
             throw new PersonNotFoundException();
         }
+        int index = getPositions().remove(toRemove.getName());
+        internalList.remove(index);
+        personsByName.remove(toRemove.getName());
+        if (index != internalList.size()) {
+            // every person after the removed one has moved up
+            positionsByName = null;
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        positionsByName = null;
     }
 
     /**
@@ -90,11 +126,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Person> replacementIndex = indexByName(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        personsByName = replacementIndex;
+        positionsByName = null;
     }
 
     /**
@@ -135,16 +174,29 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of each person in the list, by name, recomputing them if needed.
+     */
+    private Map<Name, Integer> getPositions() {
+        if (positionsByName == null) {
+            positionsByName = new HashMap<>(internalList.size() * 4 / 3 + 1);
+            for (int i = 0; i < internalList.size(); i++) {
+                positionsByName.put(internalList.get(i).getName(), i);
+            }
+        }
+        return positionsByName;
+    }
+
+    /**
+     * Returns {@code persons} keyed by their names, or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexByName(List<Person> persons) {
+        // sized up front, so that indexing a large list does not rehash it several times over
+        Map<Name, Person> index = new HashMap<>(persons.size() * 4 / 3 + 1);
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -3,6 +3,11 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +17,9 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9-]+$";
 
+    /** Canonical instances handed out by {@link #of(String)}, keyed by tag name. */
+    private static final ConcurrentMap<String, Tag> CANONICAL_INSTANCES = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +33,32 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the given tag name, creating it on first use.
+     * Equal tags share a single instance.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Tag canonical = CANONICAL_INSTANCES.get(tagName);
+        return canonical != null ? canonical : CANONICAL_INSTANCES.computeIfAbsent(tagName, Tag::new);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != '-' && !StringUtil.isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
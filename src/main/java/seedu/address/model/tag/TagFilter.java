@@ -0,0 +1,71 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Describes a query over the tags of a person.
+ * A person matches if it has all of the {@code requiredTags}, at least one of the {@code anyTags}
+ * (when there are any) and none of the {@code excludedTags}.
+ * A filter is only ever evaluated by {@link seedu.address.model.person.TagBitmapIndex}, over the whole address book
+ * at once, so there is no unindexed way to test a single person against it.
+ */
+public class TagFilter {
+
+    public final Set<Tag> requiredTags;
+    public final Set<Tag> anyTags;
+    public final Set<Tag> excludedTags;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public TagFilter(Set<Tag> requiredTags, Set<Tag> anyTags, Set<Tag> excludedTags) {
+        requireNonNull(requiredTags);
+        requireNonNull(anyTags);
+        requireNonNull(excludedTags);
+        this.requiredTags = Set.copyOf(requiredTags);
+        this.anyTags = Set.copyOf(anyTags);
+        this.excludedTags = Set.copyOf(excludedTags);
+    }
+
+    /**
+     * Returns true if this filter has no tags at all, i.e. it matches every person.
+     */
+    public boolean isEmpty() {
+        return requiredTags.isEmpty() && anyTags.isEmpty() && excludedTags.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagFilter)) {
+            return false;
+        }
+
+        TagFilter otherTagFilter = (TagFilter) other;
+        return requiredTags.equals(otherTagFilter.requiredTags)
+                && anyTags.equals(otherTagFilter.anyTags)
+                && excludedTags.equals(otherTagFilter.excludedTags);
+    }
+
+    @Override
+    public int hashCode() {
+        return requiredTags.hashCode() * 31 * 31 + anyTags.hashCode() * 31 + excludedTags.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("requiredTags", requiredTags)
+                .add("anyTags", anyTags)
+                .add("excludedTags", excludedTags)
+                .toString();
+    }
+}
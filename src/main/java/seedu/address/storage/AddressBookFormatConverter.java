@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the formats in {@link AddressBookFormat}.
+ *
+ * Can be run from the command line with the source and target files as arguments, e.g.
+ * {@code java -cp addressbook.jar seedu.address.storage.AddressBookFormatConverter data/addressbook.json
+ * data/addressbook.bin}. The source may be in either format, and is converted to the other one.
+ */
+public class AddressBookFormatConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFormatConverter SOURCE_FILE TARGET_FILE";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Address book file %s does not exist";
+    public static final String MESSAGE_SUCCESS = "Converted %s (%s) to %s (%s)";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormatConverter.class);
+
+    /**
+     * Returns an {@code AddressBookStorage} for the file at {@code filePath} in {@code format}, configured by
+     * {@code config}. The storage reads both compressed and uncompressed files, and writes them compressed at
+     * {@code config}'s compression level. If {@code config} has more than one shard, the storage is a
+     * {@link ShardedAddressBookStorage} with its manifest at {@code filePath} and its shards in {@code format}.
+     */
+    public static AddressBookStorage createStorage(Path filePath, AddressBookFormat format, Config config) {
+        requireNonNull(config);
+        int shardCount = getShardCount(config);
+        return createStorage(filePath, format, config, shardCount > 1, shardCount);
+    }
+
+    /**
+     * Returns {@code config}'s shard count, or 1 if it is invalid.
+     */
+    private static int getShardCount(Config config) {
+        int shardCount = config.getShardCount();
+        if (!ShardedAddressBookStorage.isValidShardCount(shardCount)) {
+            logger.warning("Invalid shard count " + shardCount + ", using a single file instead. "
+                    + ShardedAddressBookStorage.MESSAGE_INVALID_SHARD_COUNT);
+            return 1;
+        }
+        return shardCount;
+    }
+
+    private static AddressBookStorage createStorage(Path filePath, AddressBookFormat format, Config config,
+            boolean isSharded, int shardCount) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        if (isSharded) {
+            return new ShardedAddressBookStorage(filePath, shardCount,
+                    shardFilePath -> createFileStorage(shardFilePath, format, config), config.getSaveDurability());
+        }
+        return createFileStorage(filePath, format, config);
+    }
+
+    private static AddressBookStorage createFileStorage(Path filePath, AddressBookFormat format, Config config) {
+        StreamingAddressBookStorage formatStorage;
+        switch (format) {
+        case BINARY:
+            formatStorage = new BinaryAddressBookStorage(filePath, config.getSaveDurability());
+            break;
+        default:
+            formatStorage = new JsonAddressBookStorage(filePath, config.getPrettyPrintMaxPersons(),
+                    config.isParallelLoadEnabled(), config.isLazyLoadEnabled(), config.getSaveDurability());
+            break;
+        }
+
+        int level = config.getCompressionLevel();
+        if (!CompressedAddressBookStorage.isValidLevel(level)) {
+            logger.warning("Invalid compression level " + level + ", saving uncompressed instead. "
+                    + CompressedAddressBookStorage.MESSAGE_INVALID_LEVEL);
+            level = CompressedAddressBookStorage.NO_COMPRESSION;
+        }
+        return new CompressedAddressBookStorage(formatStorage, level, config.getSaveDurability());
+    }
+
+    /**
+     * Returns the format of the address book file at {@code filePath}, which must exist and may be compressed.
+     * The format of a sharded address book is that of its shards.
+     */
+    public static AddressBookFormat detectFormat(Path filePath) throws IOException {
+        if (ShardedAddressBookStorage.isManifestFile(filePath)) {
+            List<Path> shardFilePaths = getShardFilePaths(filePath);
+            return shardFilePaths.isEmpty() ? AddressBookFormat.JSON : detectFormat(shardFilePaths.get(0));
+        }
+        return BinaryAddressBookStorage.isBinaryFile(filePath) ? AddressBookFormat.BINARY : AddressBookFormat.JSON;
+    }
+
+    /**
+     * Returns true if the address book file at {@code filePath} exists but is not stored as {@code format} and
+     * {@code config} ask, i.e. it is in the other format, is sharded when it should not be or vice versa, or has a
+     * journal although {@code config} does not keep one.
+     */
+    public static boolean isConversionNeeded(Path filePath, AddressBookFormat format, Config config)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(config);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        boolean isSharded = getShardCount(config) > 1;
+        boolean isJournaled = config.isJournalEnabled() && !isSharded;
+        return ShardedAddressBookStorage.isManifestFile(filePath) != isSharded || detectFormat(filePath) != format
+                || !isJournaled && Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath));
+    }
+
+    /**
+     * Reads the address book at {@code sourceFilePath}, including any changes in its journal, and writes it to
+     * {@code targetFilePath} in {@code targetFormat}, sharded if {@code config} has more than one shard.
+     *
+     * @return false if there is no address book at {@code sourceFilePath}.
+     */
+    public static boolean convert(Path sourceFilePath, Path targetFilePath, AddressBookFormat targetFormat,
+            Config config) throws DataLoadingException, IOException {
+        requireNonNull(sourceFilePath);
+        requireNonNull(targetFilePath);
+        if (!Files.exists(sourceFilePath)) {
+            return false;
+        }
+
+        boolean isSourceSharded = ShardedAddressBookStorage.isManifestFile(sourceFilePath);
+        AddressBookStorage sourceStorage = new JournaledAddressBookStorage(
+                createStorage(sourceFilePath, detectFormat(sourceFilePath), config, isSourceSharded, 1),
+                config.getSaveDurability());
+        Optional<ReadOnlyAddressBook> addressBook = sourceStorage.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+
+        boolean isTargetSharded = Files.exists(targetFilePath)
+                && ShardedAddressBookStorage.isManifestFile(targetFilePath);
+        List<Path> oldShardFilePaths = isTargetSharded ? getShardFilePaths(targetFilePath) : List.of();
+        createStorage(targetFilePath, targetFormat, config).saveAddressBook(addressBook.get());
+        Files.deleteIfExists(JournaledAddressBookStorage.getJournalFilePath(targetFilePath));
+        // a sharded target removes the shards it replaced itself
+        if (!ShardedAddressBookStorage.isManifestFile(targetFilePath)) {
+            for (Path shardFilePath : oldShardFilePaths) {
+                Files.deleteIfExists(shardFilePath);
+                Files.deleteIfExists(ShardedAddressBookStorage.getOrderFilePath(shardFilePath));
+            }
+        }
+        return true;
+    }
+
+    private static List<Path> getShardFilePaths(Path filePath) throws IOException {
+        try {
+            return ShardedAddressBookStorage.getShardFilePaths(filePath);
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive);
+        }
+    }
+
+    /**
+     * Converts the address book file given as the first argument to the other format, writing it to the file given
+     * as the second argument.
+     */
+    public static void main(String[] args) throws DataLoadingException, IOException {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        Path sourceFilePath = Paths.get(args[0]);
+        Path targetFilePath = Paths.get(args[1]);
+        if (!Files.exists(sourceFilePath)) {
+            System.err.println(String.format(MESSAGE_SOURCE_NOT_FOUND, sourceFilePath));
+            System.exit(1);
+        }
+
+        AddressBookFormat sourceFormat = detectFormat(sourceFilePath);
+        AddressBookFormat targetFormat = sourceFormat == AddressBookFormat.JSON
+                ? AddressBookFormat.BINARY
+                : AddressBookFormat.JSON;
+        convert(sourceFilePath, targetFilePath, targetFormat, new Config());
+        System.out.println(String.format(MESSAGE_SUCCESS, sourceFilePath, sourceFormat, targetFilePath, targetFormat));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background writer thread.
+ *
+ * Only the latest submitted address book is kept: if several are submitted while the writer is busy, the older ones
+ * are skipped and only the latest is written once the writer is free. Callers must submit snapshots that will not
+ * change afterwards, e.g. {@link seedu.address.model.AddressBookSnapshot}.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Consumer<IOException> failureHandler = e -> { };
+
+    /**
+     * Creates an {@code AsyncAddressBookSaver} that writes to {@code storage}.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler called on the writer thread when a save fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, replacing any address book that is still waiting to be written.
+     * Returns immediately.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (pendingAddressBook.getAndSet(addressBook) == null) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Blocks until every address book submitted so far has been written, or skipped in favour of a later one.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook = pendingAddressBook.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book : " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.Durability;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Doctor;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with the magic bytes {@code ABKB} and a format version, followed by three dictionaries holding
+ * every distinct tag, medicine and doctor, and then the persons. Each person is stored as its name, phone, email and
+ * address, followed by the positions of its doctor, tags and medicines in the dictionaries. Strings are stored as
+ * their UTF-8 byte length followed by the bytes, and all counts, lengths and positions as variable-length integers,
+ * so no field name is repeated for every person as in the JSON format.
+ */
+public class BinaryAddressBookStorage implements StreamingAddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY_FILE = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %d";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book is corrupted";
+    public static final String MESSAGE_TRAILING_DATA = "Binary address book has data after its last person";
+    public static final String MESSAGE_VALUE_TOO_LONG = "Values longer than %d bytes cannot be saved";
+    /** The longest string the format holds, so that a corrupted length is not trusted with a huge allocation. */
+    public static final int MAX_STRING_BYTES = 1 << 20;
+
+    private static final byte[] MAGIC = {'A', 'B', 'K', 'B'};
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final Durability durability;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_SAVE_DURABILITY);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that forces the files it writes to the storage device as required by
+     * {@code durability}.
+     */
+    public BinaryAddressBookStorage(Path filePath, Durability durability) {
+        requireNonNull(durability);
+        this.filePath = filePath;
+        this.durability = durability;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath}, once decompressed if it is compressed, starts with the magic bytes
+     * of a binary address book.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = CompressedAddressBookStorage.openDecompressed(filePath)) {
+            return Arrays.equals(MAGIC, in.readNBytes(MAGIC.length));
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = FileUtil.openForReading(filePath)) {
+            return Optional.of(readFrom(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, durability, out -> writeTo(addressBook, out));
+    }
+
+    @Override
+    public ReadOnlyAddressBook readFrom(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        return read(in);
+    }
+
+    @Override
+    public void writeTo(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+        write(addressBook, out);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<Tag, Integer> tagPositions = new HashMap<>();
+        Map<Medicine, Integer> medicinePositions = new HashMap<>();
+        Map<Doctor, Integer> doctorPositions = new HashMap<>();
+        List<String> tagNames = new ArrayList<>();
+        List<String> medicineNames = new ArrayList<>();
+        List<String> doctorNames = new ArrayList<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                addToDictionary(tagPositions, tagNames, tag, tag.tagName);
+            }
+            for (Medicine medicine : person.getMedicines()) {
+                addToDictionary(medicinePositions, medicineNames, medicine, medicine.medicineName);
+            }
+            addToDictionary(doctorPositions, doctorNames, person.getDoctor(), person.getDoctor().name);
+        }
+
+        BinaryWriter writer = new BinaryWriter(out);
+        writer.writeBytes(MAGIC);
+        writer.writeVarInt(FORMAT_VERSION);
+        writer.writeStrings(tagNames);
+        writer.writeStrings(medicineNames);
+        writer.writeStrings(doctorNames);
+        writer.writeVarInt(persons.size());
+        for (Person person : persons) {
+            writer.writeString(person.getName().fullName);
+            writer.writeString(person.getPhone().value);
+            writer.writeString(person.getEmail().value);
+            writer.writeString(person.getAddress().value);
+            writer.writeVarInt(doctorPositions.get(person.getDoctor()));
+            writer.writeVarInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writer.writeVarInt(tagPositions.get(tag));
+            }
+            writer.writeVarInt(person.getMedicines().size());
+            for (Medicine medicine : person.getMedicines()) {
+                writer.writeVarInt(medicinePositions.get(medicine));
+            }
+        }
+        writer.flush();
+    }
+
+    private static <T> void addToDictionary(Map<T, Integer> positions, List<String> names, T value, String name) {
+        if (!positions.containsKey(value)) {
+            positions.put(value, names.size());
+            names.add(name);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code in}.
+     *
+     * @throws IOException if the content is not a binary address book of a supported version, or is cut short.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        List<Person> persons = readPersons(in);
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the persons of an address book in the binary format from {@code in}, in order.
+     * The persons are not checked for duplicates.
+     *
+     * @throws IOException if the content is not a binary address book of a supported version, is cut short, or goes
+     *     on after the last person.
+     */
+    static List<Person> readPersons(InputStream in) throws IOException, IllegalValueException {
+        BinaryReader reader = new BinaryReader(in);
+        if (!Arrays.equals(MAGIC, reader.readBytes(MAGIC.length))) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = reader.readVarInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        List<Tag> tags = readDictionary(reader, Tag::of, Tag.MESSAGE_CONSTRAINTS);
+        List<Medicine> medicines = readDictionary(reader, Medicine::of, Medicine.MESSAGE_CONSTRAINTS);
+        List<Doctor> doctors = readDictionary(reader, Doctor::of, Doctor.MESSAGE_CONSTRAINTS);
+
+        int personCount = reader.readVarInt();
+        List<Person> persons = new ArrayList<>(Math.min(personCount, BUFFER_SIZE));
+        // reused for every person, as Person copies the sets it is given
+        Set<Tag> personTags = new HashSet<>();
+        Set<Medicine> personMedicines = new HashSet<>();
+        for (int i = 0; i < personCount; i++) {
+            Name name = JsonAdaptedPerson.toModelField(Name::new, reader.readString(), Name.MESSAGE_CONSTRAINTS);
+            Phone phone = JsonAdaptedPerson.toModelField(Phone::new, reader.readString(), Phone.MESSAGE_CONSTRAINTS);
+            Email email = JsonAdaptedPerson.toModelField(Email::new, reader.readString(), Email.MESSAGE_CONSTRAINTS);
+            Address address =
+                    JsonAdaptedPerson.toModelField(Address::new, reader.readString(), Address.MESSAGE_CONSTRAINTS);
+            Doctor doctor = getEntry(doctors, reader.readVarInt());
+            readEntries(reader, tags, personTags);
+            readEntries(reader, medicines, personMedicines);
+            persons.add(new Person(name, phone, email, address, doctor, personTags, personMedicines));
+        }
+        if (!reader.isAtEnd()) {
+            throw new IOException(MESSAGE_TRAILING_DATA);
+        }
+        return persons;
+    }
+
+    private static <T> List<T> readDictionary(BinaryReader reader, Function<String, T> constructor,
+            String constraintsMessage) throws IOException, IllegalValueException {
+        int size = reader.readVarInt();
+        List<T> entries = new ArrayList<>(Math.min(size, BUFFER_SIZE));
+        for (int i = 0; i < size; i++) {
+            entries.add(JsonAdaptedPerson.toModelField(constructor, reader.readString(), constraintsMessage));
+        }
+        return entries;
+    }
+
+    /**
+     * Replaces the content of {@code entries} with the dictionary entries whose positions are read next.
+     */
+    private static <T> void readEntries(BinaryReader reader, List<T> dictionary, Set<T> entries) throws IOException {
+        entries.clear();
+        int size = reader.readVarInt();
+        for (int i = 0; i < size; i++) {
+            entries.add(getEntry(dictionary, reader.readVarInt()));
+        }
+    }
+
+    private static <T> T getEntry(List<T> dictionary, int position) throws IOException {
+        if (position >= dictionary.size()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return dictionary.get(position);
+    }
+
+    /**
+     * Buffers the primitive writes of the binary format. Unlike {@code DataOutputStream} over a
+     * {@code BufferedOutputStream}, no lock is taken for every byte.
+     */
+    private static class BinaryWriter {
+
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+
+        BinaryWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        void writeVarInt(int value) throws IOException {
+            if (buffer.length - position < 5) {
+                flush();
+            }
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_STRING_BYTES) {
+                throw new IOException(String.format(MESSAGE_VALUE_TOO_LONG, MAX_STRING_BYTES));
+            }
+            writeVarInt(bytes.length);
+            writeBytes(bytes);
+        }
+
+        void writeStrings(List<String> values) throws IOException {
+            writeVarInt(values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        void writeBytes(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.length - position) {
+                flush();
+            }
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                return;
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void flush() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * Buffers the primitive reads of the binary format, decoding strings straight from the buffer where possible.
+     */
+    private static class BinaryReader {
+
+        private final InputStream in;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+
+        BinaryReader(InputStream in) {
+            this.in = in;
+        }
+
+        int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = readByte();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    if (value < 0) {
+                        throw new IOException(MESSAGE_CORRUPTED_FILE);
+                    }
+                    return value;
+                }
+            }
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+
+        String readString() throws IOException {
+            int length = readVarInt();
+            if (length > MAX_STRING_BYTES) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+            if (limit - position < length && !fill(length)) {
+                return new String(readBytes(length), StandardCharsets.UTF_8);
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        /**
+         * Reads {@code length} bytes, which must be at most {@link #MAX_STRING_BYTES}.
+         */
+        byte[] readBytes(int length) throws IOException {
+            assert length >= 0 && length <= MAX_STRING_BYTES;
+            byte[] bytes = new byte[length];
+            int copied = Math.min(length, limit - position);
+            System.arraycopy(buffer, position, bytes, 0, copied);
+            position += copied;
+            if (in.readNBytes(bytes, copied, length - copied) != length - copied) {
+                throw new EOFException();
+            }
+            return bytes;
+        }
+
+        /**
+         * Returns true if every byte of the input has been read.
+         */
+        boolean isAtEnd() throws IOException {
+            return position == limit && !fill(1);
+        }
+
+        private byte readByte() throws IOException {
+            if (position == limit && !fill(1)) {
+                throw new EOFException();
+            }
+            return buffer[position++];
+        }
+
+        /**
+         * Moves the unread bytes to the start of the buffer and reads more until at least {@code length} bytes are
+         * buffered. Returns false if {@code length} does not fit in the buffer or the end of the input is reached.
+         */
+        private boolean fill(int length) throws IOException {
+            if (length > buffer.length) {
+                return false;
+            }
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+            while (limit < length) {
+                int read = in.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    return false;
+                }
+                limit += read;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.Durability;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that gzip-compresses the files of another storage's format as they are streamed.
+ *
+ * Files are read whether they are compressed or not, as compressed files are recognised by the gzip magic bytes.
+ * Files are written compressed at the level given at construction, or uncompressed if that level is
+ * {@value #NO_COMPRESSION}, so compression can be turned on and off without converting existing files.
+ */
+public class CompressedAddressBookStorage implements AddressBookStorage {
+
+    public static final int NO_COMPRESSION = 0;
+    public static final String MESSAGE_INVALID_LEVEL = "Compression level should be between 0 and 9";
+
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(CompressedAddressBookStorage.class);
+
+    private final StreamingAddressBookStorage formatStorage;
+    private final int level;
+    private final Durability durability;
+
+    /**
+     * Creates a {@code CompressedAddressBookStorage} that stores files in the format of {@code formatStorage}, at its
+     * file path, compressed at {@code level} from 1 (fastest) to 9 (smallest), or uncompressed if {@code level} is
+     * {@value #NO_COMPRESSION}.
+     */
+    public CompressedAddressBookStorage(StreamingAddressBookStorage formatStorage, int level, Durability durability) {
+        requireNonNull(formatStorage);
+        requireNonNull(durability);
+        checkArgument(isValidLevel(level), MESSAGE_INVALID_LEVEL);
+        this.formatStorage = formatStorage;
+        this.level = level;
+        this.durability = durability;
+    }
+
+    /**
+     * Returns true if {@code level} is a valid compression level.
+     */
+    public static boolean isValidLevel(int level) {
+        return level >= NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION;
+    }
+
+    /**
+     * Opens the file at {@code filePath} for reading, decompressing it if it is gzip-compressed.
+     */
+    public static InputStream openDecompressed(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        InputStream fileIn = FileUtil.openForReading(filePath);
+        InputStream in = fileIn.markSupported() ? fileIn : new BufferedInputStream(fileIn, BUFFER_SIZE);
+        try {
+            in.mark(2);
+            boolean isCompressed = in.read() == GZIP_MAGIC_FIRST_BYTE && in.read() == GZIP_MAGIC_SECOND_BYTE;
+            in.reset();
+            return isCompressed ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the gzip magic bytes.
+     */
+    private static boolean isCompressed(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return in.read() == GZIP_MAGIC_FIRST_BYTE && in.read() == GZIP_MAGIC_SECOND_BYTE;
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return formatStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!isCompressed(filePath)) {
+                // read by path, as the format storage may read parts of the file again, e.g. for lazily loaded persons
+                return formatStorage.readAddressBook(filePath);
+            }
+            try (InputStream in = openDecompressed(filePath)) {
+                return Optional.of(formatStorage.readFrom(in));
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (level == NO_COMPRESSION) {
+            formatStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        // closing the compressed stream releases the native memory of its Deflater, and leaves the file open
+        FileUtil.writeAtomically(filePath, durability, out -> {
+            try (GZIPOutputStream compressedOut = new LeveledGzipOutputStream(out, level)) {
+                formatStorage.writeTo(addressBook, compressedOut);
+            }
+        });
+    }
+
+    /**
+     * A {@code GZIPOutputStream} that compresses at a given level instead of the default one.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Periodically compacts the journal of a {@code JournaledAddressBookStorage} on a background thread, once the journal
+ * grows past a size limit or holds changes older than an age limit.
+ */
+public class JournalCompactor {
+
+    public static final Duration DEFAULT_CHECK_INTERVAL = Duration.ofSeconds(10);
+
+    private static final Logger logger = LogsCenter.getLogger(JournalCompactor.class);
+
+    private final JournaledAddressBookStorage storage;
+    private final long maxJournalBytes;
+    private final Duration maxJournalAge;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a {@code JournalCompactor} that checks {@code storage} every {@link #DEFAULT_CHECK_INTERVAL}.
+     */
+    public JournalCompactor(JournaledAddressBookStorage storage, long maxJournalBytes, Duration maxJournalAge) {
+        this(storage, maxJournalBytes, maxJournalAge, DEFAULT_CHECK_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournalCompactor} that checks {@code storage} every {@code checkInterval}.
+     */
+    public JournalCompactor(JournaledAddressBookStorage storage, long maxJournalBytes, Duration maxJournalAge,
+            Duration checkInterval) {
+        requireNonNull(storage);
+        requireNonNull(maxJournalAge);
+        requireNonNull(checkInterval);
+        this.storage = storage;
+        this.maxJournalBytes = maxJournalBytes;
+        this.maxJournalAge = maxJournalAge;
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Starts checking the journal periodically. Returns immediately.
+     */
+    public void start() {
+        long intervalMillis = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::compactIfNeeded, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops checking the journal, waiting for a compaction in progress to finish.
+     */
+    public void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void compactIfNeeded() {
+        try {
+            storage.compactIfNeeded(maxJournalBytes, maxJournalAge);
+        } catch (IOException | RuntimeException e) {
+            // a failed compaction leaves the snapshot and journal usable, so it is simply retried at the next check
+            logger.warning("Failed to compact address book journal : " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.Durability;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that keeps a snapshot of the address book plus a journal of the changes made since
+ * that snapshot was written.
+ *
+ * Saving appends the changes the address book recorded since the one last read or saved (see
+ * {@link AddressBookChange}) to the journal, one JSON record per line, so the cost of a save depends on the size of the
+ * change instead of the size of the address book. Reading loads the snapshot and replays the journal over it.
+ *
+ * The snapshot is kept by another {@code AddressBookStorage}, such as {@link JsonAddressBookStorage}, in its own
+ * format. The journal is kept next to it with {@value #JOURNAL_FILE_SUFFIX} appended to its name.
+ *
+ * {@link #compact()} folds the journal back into the snapshot. The new snapshot is read and written without holding the
+ * lock that saves take, so saves made while compacting are not delayed by it.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTION_FILE_SUFFIX = ".compacting";
+    public static final String NEXT_JOURNAL_FILE_SUFFIX = ".next";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Durability durability;
+
+    /** File whose snapshot and journal together hold the address book as of {@code savedChange}, or null if unknown. */
+    private Path savedFilePath;
+    /** The last change of the address book last read from or saved to {@code savedFilePath}. */
+    private AddressBookChange savedChange;
+    /** Incremented whenever a snapshot is written or read, so that a compaction can tell it has been overtaken. */
+    private long snapshotGeneration;
+    /** When the first entry of the current journal was written, in {@code System.nanoTime()} units. */
+    private long journalStartNanos;
+    private boolean hasJournal;
+
+    private int lastReplayLength;
+    private Duration lastCompactionDuration;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(new JsonAddressBookStorage(filePath), Config.DEFAULT_SAVE_DURABILITY);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}, and forces
+     * journal entries to the storage device as required by {@code durability}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, Durability durability) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(durability);
+        this.snapshotStorage = snapshotStorage;
+        this.durability = durability;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path that a compaction of the snapshot at {@code filePath} writes the new snapshot to.
+     */
+    static Path getCompactionFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTION_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path that a compaction of the snapshot at {@code filePath} writes the journal that goes with the new
+     * snapshot to.
+     */
+    static Path getNextJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(getJournalFilePath(filePath).getFileName() + NEXT_JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            recoverCompaction(filePath);
+        } catch (IOException e) {
+            logger.warning("Error recovering the compaction of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        snapshotGeneration++;
+        lastReplayLength = 0;
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            setJournalStarted(false);
+            snapshot.ifPresent(addressBook -> setSaved(filePath, addressBook.getLastChange()));
+            return snapshot;
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.orElseGet(AddressBook::new));
+        try {
+            // an entry appended after a cut-off one would be lost with it, so the cut-off entry is removed for good
+            if (FileUtil.truncateToLastLine(journalFilePath, durability) > 0) {
+                logger.warning("Discarded incomplete last entry of journal " + journalFilePath);
+            }
+            lastReplayLength = replayJournal(journalFilePath, addressBook);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error replaying journal " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        logger.info("Replayed " + lastReplayLength + " journal entries from " + journalFilePath);
+
+        // the age of the entries already in the journal is unknown, so it is measured from now
+        setJournalStarted(true);
+        setSaved(filePath, addressBook.getLastChange());
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies every entry in the journal at {@code journalFilePath} to {@code addressBook}, in order.
+     * Every line must hold a complete entry. An incomplete last line, left behind if the app stopped while appending
+     * to the journal, must be cut off with {@link FileUtil#truncateToLastLine} first.
+     *
+     * @return the number of entries applied.
+     */
+    static int replayJournal(Path journalFilePath, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        return replayJournal(Files.readAllBytes(journalFilePath), addressBook);
+    }
+
+    /**
+     * Applies every entry in {@code journal}, the contents of a journal, to {@code addressBook}, in order.
+     *
+     * @return the number of entries applied.
+     */
+    private static int replayJournal(byte[] journal, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        String[] lines = new String(journal, StandardCharsets.UTF_8).split("\n");
+        int entryCount = 0;
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).applyTo(addressBook);
+            entryCount++;
+        }
+        return entryCount;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookChange lastChange = addressBook.getLastChange();
+        List<JsonAdaptedJournalEntry> entries = filePath.equals(savedFilePath)
+                ? getEntries(savedChange, lastChange, addressBook.getPersonList().size())
+                : null;
+        if (entries == null) {
+            saveSnapshot(addressBook, filePath);
+        } else if (!entries.isEmpty()) {
+            appendToJournal(filePath, entries);
+        }
+        setSaved(filePath, lastChange);
+    }
+
+    /**
+     * Returns the entries for the changes made after {@code savedChange} up to {@code lastChange}, or null if writing a
+     * new snapshot would be simpler, e.g. because the whole list was replaced or changes were made to more than half
+     * of the {@code size} persons now in the address book.
+     */
+    private static List<JsonAdaptedJournalEntry> getEntries(AddressBookChange savedChange,
+            AddressBookChange lastChange, int size) {
+        Optional<List<AddressBookChange>> changes = savedChange.getChangesUntil(lastChange, Math.max(size / 2, 1));
+        if (changes.isEmpty()) {
+            return null;
+        }
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        for (AddressBookChange change : changes.get()) {
+            switch (change.getKind()) {
+            case ADD:
+                entries.add(JsonAdaptedJournalEntry.add(change.getPerson()));
+                break;
+            case SET:
+                entries.add(JsonAdaptedJournalEntry.set(change.getTarget().getName(), change.getPerson()));
+                break;
+            case REMOVE:
+                entries.add(JsonAdaptedJournalEntry.delete(change.getTarget().getName()));
+                break;
+            case CLEAR:
+                entries.add(JsonAdaptedJournalEntry.clear());
+                break;
+            default:
+                return null;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot at {@code filePath} and removes its journal.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        recoverCompaction(filePath);
+        snapshotGeneration++;
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        setJournalStarted(false);
+    }
+
+    private void appendToJournal(Path filePath, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            records.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        Path journalFilePath = getJournalFilePath(filePath);
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        FileUtil.appendToFile(journalFilePath, records.toString(), durability);
+        if (!hasJournal) {
+            setJournalStarted(true);
+        }
+    }
+
+    private void setSaved(Path filePath, AddressBookChange lastChange) {
+        savedFilePath = filePath;
+        savedChange = lastChange;
+    }
+
+    private void setJournalStarted(boolean hasJournal) {
+        this.hasJournal = hasJournal;
+        journalStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Compacts the journal of the last read or saved file if it has grown past {@code maxJournalBytes} or holds
+     * changes older than {@code maxJournalAge}.
+     *
+     * @return true if the journal was compacted.
+     */
+    public boolean compactIfNeeded(long maxJournalBytes, Duration maxJournalAge) throws IOException {
+        requireNonNull(maxJournalAge);
+        synchronized (this) {
+            if (savedFilePath == null || !hasJournal) {
+                return false;
+            }
+            long journalBytes = Files.size(getJournalFilePath(savedFilePath));
+            long journalAgeNanos = System.nanoTime() - journalStartNanos;
+            if (journalBytes < maxJournalBytes && journalAgeNanos < maxJournalAge.toNanos()) {
+                return false;
+            }
+        }
+        return compact();
+    }
+
+    /**
+     * Writes the address book last read or saved as a new snapshot and truncates its journal.
+     *
+     * The new snapshot is first made by replaying the journal as it is now over the old snapshot, and written to a
+     * temporary file, while saves carry on appending to the journal.
+     * The lock is then taken only to move the snapshot into place and to keep the journal entries appended in the
+     * meantime. Those entries are written to the next journal before the snapshot is moved, so that if the app stops
+     * part-way, the next read can tell which journal goes with the snapshot in place (see
+     * {@link #recoverCompaction(Path)}) and never replays the old journal over the new snapshot. Replaying entries
+     * again over a snapshot that already includes them could reorder persons, e.g. when a person was renamed and
+     * another person was then added under the old name.
+     *
+     * @return true if the journal was compacted, false if there was nothing to compact or a snapshot was written by a
+     *     save in the meantime.
+     */
+    public boolean compact() throws IOException {
+        Path filePath;
+        Path journalFilePath;
+        byte[] compactedJournal;
+        long generation;
+        synchronized (this) {
+            if (savedFilePath == null || !hasJournal) {
+                return false;
+            }
+            filePath = savedFilePath;
+            journalFilePath = getJournalFilePath(filePath);
+            compactedJournal = Files.readAllBytes(journalFilePath);
+            generation = snapshotGeneration;
+        }
+
+        long startNanos = System.nanoTime();
+        Duration duration;
+        Path tempSnapshotFilePath = getCompactionFilePath(filePath);
+        Path nextJournalFilePath = getNextJournalFilePath(filePath);
+        try {
+            AddressBook addressBook = readCompacted(filePath, compactedJournal);
+            snapshotStorage.saveAddressBook(addressBook, tempSnapshotFilePath);
+            synchronized (this) {
+                if (generation != snapshotGeneration) {
+                    logger.fine("Abandoning compaction of " + filePath + " as a newer snapshot was written");
+                    return false;
+                }
+                byte[] journalTail = readFrom(journalFilePath, compactedJournal.length);
+                FileUtil.writeAtomically(nextJournalFilePath, durability, out -> out.write(journalTail));
+                try {
+                    FileUtil.moveAtomically(tempSnapshotFilePath, filePath, durability);
+                } catch (IOException e) {
+                    Files.deleteIfExists(nextJournalFilePath);
+                    throw e;
+                }
+                FileUtil.moveAtomically(nextJournalFilePath, journalFilePath, durability);
+                if (journalTail.length == 0) {
+                    Files.delete(journalFilePath);
+                }
+                setJournalStarted(journalTail.length > 0);
+                duration = Duration.ofNanos(System.nanoTime() - startNanos);
+                lastCompactionDuration = duration;
+            }
+        } finally {
+            Files.deleteIfExists(tempSnapshotFilePath);
+        }
+        logger.info("Compacted " + compactedJournal.length + " journal bytes of " + filePath + " in "
+                + duration.toMillis() + " ms");
+        return true;
+    }
+
+    /**
+     * Returns the address book held by the snapshot at {@code filePath} with {@code journal}, the entries appended to
+     * its journal so far, replayed over it.
+     */
+    private AddressBook readCompacted(Path filePath, byte[] journal) throws IOException {
+        try {
+            AddressBook addressBook = new AddressBook(snapshotStorage.readAddressBook(filePath)
+                    .orElseGet(AddressBook::new));
+            replayJournal(journal, addressBook);
+            return addressBook;
+        } catch (DataLoadingException | IllegalValueException e) {
+            throw new IOException("Could not read " + filePath + " to compact it", e);
+        }
+    }
+
+    /**
+     * Completes or undoes a compaction of the snapshot at {@code filePath} that was cut short by the app stopping.
+     * A next journal is only left behind if the app stopped while the new snapshot was being moved into place. If the
+     * new snapshot is still in its temporary file, the old snapshot and journal still go together, and the next
+     * journal is discarded. Otherwise the new snapshot is in place, and the next journal replaces the old one.
+     */
+    private void recoverCompaction(Path filePath) throws IOException {
+        Path nextJournalFilePath = getNextJournalFilePath(filePath);
+        if (!Files.exists(nextJournalFilePath)) {
+            return;
+        }
+        if (Files.exists(getCompactionFilePath(filePath))) {
+            logger.warning("Undoing the interrupted compaction of " + filePath);
+            Files.delete(nextJournalFilePath);
+        } else {
+            logger.warning("Completing the interrupted compaction of " + filePath);
+            FileUtil.moveAtomically(nextJournalFilePath, getJournalFilePath(filePath), durability);
+        }
+    }
+
+    /**
+     * Returns the bytes of {@code filePath} from {@code offset} to its end.
+     */
+    private static byte[] readFrom(Path filePath, long offset) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            in.skipNBytes(offset);
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Returns the number of journal entries replayed by the last read, or 0 if there was no journal.
+     */
+    public synchronized int getLastReplayLength() {
+        return lastReplayLength;
+    }
+
+    /**
+     * Returns how long the last completed compaction took, if any.
+     */
+    public synchronized Optional<Duration> getLastCompactionDuration() {
+        return Optional.ofNullable(lastCompactionDuration);
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to an address book, as recorded in an address book journal.
+ *
+ * Applying an entry is idempotent: applying it to an address book that already contains the change leaves the
+ * address book as it is, so a journal can safely be replayed over a snapshot that already includes some of it.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_SET = "set";
+    public static final String OPERATION_DELETE = "del";
+    public static final String OPERATION_CLEAR = "clear";
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal entry has an unknown operation: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    private final String op;
+    private final String target;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("target") String target,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Returns an entry that appends {@code person} to the address book.
+     */
+    public static JsonAdaptedJournalEntry add(Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalEntry(OPERATION_ADD, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns an entry that replaces the person named {@code target} with {@code editedPerson}.
+     */
+    public static JsonAdaptedJournalEntry set(Name target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        return new JsonAdaptedJournalEntry(OPERATION_SET, target.fullName, new JsonAdaptedPerson(editedPerson));
+    }
+
+    /**
+     * Returns an entry that removes the person named {@code target} from the address book.
+     */
+    public static JsonAdaptedJournalEntry delete(Name target) {
+        requireNonNull(target);
+        return new JsonAdaptedJournalEntry(OPERATION_DELETE, target.fullName, null);
+    }
+
+    /**
+     * Returns an entry that removes every person from the address book.
+     */
+    public static JsonAdaptedJournalEntry clear() {
+        return new JsonAdaptedJournalEntry(OPERATION_CLEAR, null, null);
+    }
+
+    /**
+     * Applies the change described by this entry to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        requireNonNull(addressBook);
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+
+        switch (op) {
+        case OPERATION_ADD:
+            put(addressBook, Optional.empty(), getPerson());
+            break;
+        case OPERATION_SET:
+            put(addressBook, addressBook.getPerson(getTarget()), getPerson());
+            break;
+        case OPERATION_DELETE:
+            Optional<Person> toDelete = addressBook.getPerson(getTarget());
+            if (toDelete.isPresent()) {
+                addressBook.removePerson(toDelete.get());
+            }
+            break;
+        case OPERATION_CLEAR:
+            addressBook.resetData(new AddressBook());
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    /**
+     * Puts {@code person} in place of {@code target} if present, otherwise in place of the person with the same name,
+     * otherwise at the end of the list.
+     */
+    private static void put(AddressBook addressBook, Optional<Person> target, Person person) {
+        Optional<Person> sameName = addressBook.getPerson(person.getName());
+        if (target.isPresent()) {
+            if (sameName.isPresent() && sameName.get() != target.get()) {
+                addressBook.removePerson(sameName.get());
+            }
+            addressBook.setPerson(target.get(), person);
+        } else if (sameName.isPresent()) {
+            addressBook.setPerson(sameName.get(), person);
+        } else {
+            addressBook.addPerson(person);
+        }
+    }
+
+    private Name getTarget() throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        try {
+            return new Name(target);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS, e);
+        }
+    }
+
+    private Person getPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+}
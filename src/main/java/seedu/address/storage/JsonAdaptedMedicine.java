@@ -39,10 +39,11 @@ class JsonAdaptedMedicine {
      * @throws IllegalValueException if there were any data constraints violated in the adapted medicine.
      */
     public Medicine toModelType() throws IllegalValueException {
-        if (!Medicine.isValidMedicineName(medicineName)) {
-            throw new IllegalValueException(Medicine.MESSAGE_CONSTRAINTS);
+        try {
+            return Medicine.of(medicineName);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Medicine.MESSAGE_CONSTRAINTS, e);
         }
-        return new Medicine(medicineName);
     }
 
 }
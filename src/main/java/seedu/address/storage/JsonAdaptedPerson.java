@@ -4,7 +4,8 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -64,12 +65,13 @@ class JsonAdaptedPerson {
         email = source.getEmail().value;
         address = source.getAddress().value;
         doctor = source.getDoctor().toString();
-        tags.addAll(source.getTags().stream()
-                .map(JsonAdaptedTag::new)
-                .collect(Collectors.toList()));
-        medicines.addAll(source.getMedicines().stream()
-                .map(JsonAdaptedMedicine::new)
-                .collect(Collectors.toList()));
+        // plain loops, as this runs once per person on every full save
+        for (Tag tag : source.getTags()) {
+            tags.add(new JsonAdaptedTag(tag));
+        }
+        for (Medicine medicine : source.getMedicines()) {
+            medicines.add(new JsonAdaptedMedicine(medicine));
+        }
     }
 
     /**
@@ -91,41 +93,58 @@ class JsonAdaptedPerson {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = toModelField(Name::new, name, Name.MESSAGE_CONSTRAINTS);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = toModelField(Phone::new, phone, Phone.MESSAGE_CONSTRAINTS);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = toModelField(Email::new, email, Email.MESSAGE_CONSTRAINTS);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = toModelField(Address::new, address, Address.MESSAGE_CONSTRAINTS);
         if (doctor == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Doctor.class.getSimpleName()));
         }
-        final Doctor modelDoctor = new Doctor(doctor);
+        final Doctor modelDoctor = toModelField(Doctor::of, doctor, Doctor.MESSAGE_CONSTRAINTS);
         final Set<Tag> modelTags = new HashSet<>(personTags);
         final Set<Medicine> modelMedicines = new HashSet<>(personMedicines);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelDoctor, modelTags, modelMedicines);
     }
 
+    /**
+     * Converts {@code name}, the name of a person read from a data file, into a person that holds only that name and
+     * gets its other fields from {@code loader} when they are first needed. Only the name is validated here; the other
+     * fields are validated by {@code loader}.
+     *
+     * @throws IllegalValueException if the name is missing or invalid.
+     */
+    static Person toLazyModelType(String name, Supplier<Person> loader) throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        return new Person(toModelField(Name::new, name, Name.MESSAGE_CONSTRAINTS), loader);
+    }
+
+    /**
+     * Creates a model field from {@code value} using {@code constructor}, which validates the value.
+     * Validating only in the constructor avoids checking every value twice when loading.
+     *
+     * @throws IllegalValueException with {@code constraintsMessage} if the constructor rejects {@code value}.
+     */
+    static <T> T toModelField(Function<String, T> constructor, String value, String constraintsMessage)
+            throws IllegalValueException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(constraintsMessage, e);
+        }
+    }
+
 }
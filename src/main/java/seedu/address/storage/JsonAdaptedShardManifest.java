@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded address book, which lists its shard files.
+ *
+ * {@code shards} is written first, so that a manifest can be told apart from an address book by its first field.
+ */
+@JsonPropertyOrder({"shards", "generation"})
+class JsonAdaptedShardManifest {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Shard manifest's %s field is missing!";
+
+    private final List<String> shards = new ArrayList<>();
+    private final long generation;
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty("shards") List<String> shards,
+                                    @JsonProperty("generation") long generation) {
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+        this.generation = generation;
+    }
+
+    /**
+     * Returns the file names of the shards, relative to the directory of the manifest.
+     */
+    public List<String> getShardFileNames() {
+        return Collections.unmodifiableList(shards);
+    }
+
+    /**
+     * Returns the number of times the sharded address book has been saved, which tells apart the shard files
+     * written by each save.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Checks that this manifest has all of its fields.
+     *
+     * @throws IllegalValueException if a field is missing.
+     */
+    public void validate() throws IllegalValueException {
+        if (shards.isEmpty() || shards.contains(null)) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "shards"));
+        }
+    }
+}
@@ -39,10 +39,11 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
-            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        try {
+            return Tag.of(tagName);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS, e);
         }
-        return new Tag(tagName);
     }
 
 }
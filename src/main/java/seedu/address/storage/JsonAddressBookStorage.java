@@ -2,14 +2,23 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.Durability;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -17,14 +26,40 @@ import seedu.address.model.ReadOnlyAddressBook;
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
+public class JsonAddressBookStorage implements StreamingAddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
     private Path filePath;
+    private final int prettyPrintMaxPersons;
+    private final boolean isParallelLoad;
+    private final boolean isLazyLoad;
+    private final Durability durability;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, Config.DEFAULT_PRETTY_PRINT_MAX_PERSONS, Config.DEFAULT_PARALLEL_LOAD_ENABLED,
+                Config.DEFAULT_LAZY_LOAD_ENABLED, Config.DEFAULT_SAVE_DURABILITY);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that indents the files it writes only for address books of at most
+     * {@code prettyPrintMaxPersons} persons, converts the persons it reads on several threads if
+     * {@code isParallelLoad} is true, validates and keeps only the names of the persons in the files it reads until
+     * their other fields are needed if {@code isLazyLoad} is true, and forces the files it writes to the storage device
+     * as required by {@code durability}.
+     * Persons are only loaded lazily from files read by path, as their fields are read again from the file, which is
+     * kept open. As Windows would then not let the file be saved, persons are always loaded in full there.
+     */
+    public JsonAddressBookStorage(Path filePath, int prettyPrintMaxPersons, boolean isParallelLoad, boolean isLazyLoad,
+            Durability durability) {
+        requireNonNull(durability);
         this.filePath = filePath;
+        this.prettyPrintMaxPersons = prettyPrintMaxPersons;
+        this.isParallelLoad = isParallelLoad;
+        this.isLazyLoad = isLazyLoad;
+        this.durability = durability;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,20 +80,53 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(isLazyLoad && FileUtil.canReplaceOpenFiles() ? readLazily(filePath) : read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    private ReadOnlyAddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = FileUtil.openForReading(filePath)) {
+            return readFrom(in);
+        }
+    }
+
+    /**
+     * Reads the file at {@code filePath} with each person holding only its name, and the position of its record in
+     * the file to load its other fields from.
+     */
+    private ReadOnlyAddressBook readLazily(Path filePath) throws IOException, IllegalValueException {
+        JsonPersonRecords records = JsonPersonRecords.open(filePath);
+        // the persons are parsed from the same open file their records are loaded from, even if it is replaced
+        try (JsonParser parser = JsonUtil.createParser(records.newInputStream())) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return JsonSerializableAddressBook.readModelType(parser, isParallelLoad, records);
+        } catch (IOException | IllegalValueException | RuntimeException e) {
+            records.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public ReadOnlyAddressBook readFrom(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+
+        // persons are converted while the file is streamed, so the JSON and the model are never both held in full
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            return JsonSerializableAddressBook.readModelType(parser, isParallelLoad, null);
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +141,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeAtomically(filePath, durability, out -> writeTo(addressBook, out));
+    }
+
+    @Override
+    public void writeTo(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        boolean isPrettyPrinted = addressBook.getPersonList().size() <= prettyPrintMaxPersons;
+        OutputStream bufferedOut = new BufferedOutputStream(out, WRITE_BUFFER_SIZE);
+        try (JsonGenerator generator = JsonUtil.createGenerator(bufferedOut, isPrettyPrinted)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            JsonSerializableAddressBook.writeModelType(addressBook, generator);
+        }
+        bufferedOut.flush();
     }
 
 }
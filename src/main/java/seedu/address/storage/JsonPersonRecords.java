@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * The JSON records of the persons in a data file, read again by their position in the file when the fields of a
+ * lazily loaded person are first needed.
+ *
+ * The file is kept open for as long as any person refers to it, and closed once the records are garbage collected.
+ * Saving replaces the data file with a new one rather than writing over it, so the open file keeps the content the
+ * positions refer to.
+ */
+class JsonPersonRecords implements Closeable {
+
+    private static final Cleaner cleaner = Cleaner.create();
+
+    private final Path filePath;
+    private final FileChannel channel;
+    private final Cleaner.Cleanable cleanable;
+
+    private JsonPersonRecords(Path filePath, FileChannel channel) {
+        this.filePath = filePath;
+        this.channel = channel;
+        // the cleaning action must not refer to this object, or it would never become unreachable
+        this.cleanable = cleaner.register(this, () -> closeQuietly(channel));
+    }
+
+    /**
+     * Opens the data file at {@code filePath} to read person records from it.
+     */
+    static JsonPersonRecords open(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return new JsonPersonRecords(filePath, FileChannel.open(filePath, StandardOpenOption.READ));
+    }
+
+    /**
+     * Returns a stream that reads the file from its start, to find the records in.
+     * Closing the stream closes the file, so it should be left open while any person refers to the file.
+     */
+    InputStream newInputStream() throws IOException {
+        channel.position(0);
+        return Channels.newInputStream(channel);
+    }
+
+    /**
+     * Reads the person whose JSON record takes the {@code length} bytes at {@code position} in the file, and converts
+     * it into the model's {@code Person}, validating every field.
+     *
+     * @throws IllegalStateException if the record cannot be read, or any of its fields is invalid, as the person was
+     *     already loaded by name and can no longer be left out of the address book.
+     */
+    Person load(long position, int length) {
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException("Person record ends past the end of the file");
+                }
+            }
+            String record = new String(buffer.array(), StandardCharsets.UTF_8);
+            return JsonUtil.fromJsonString(record, JsonAdaptedPerson.class).toModelType();
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalStateException("Person at byte " + position + " of " + filePath + " could not be loaded: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Closes the file, after which the persons that refer to it can no longer load their fields.
+     * Used when loading the persons from the file fails, as it is otherwise closed once they are all gone.
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // nothing more can be done with a file that is no longer used
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -21,6 +31,8 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final int PARALLEL_CHUNK_SIZE = 1024;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -57,4 +69,209 @@ class JsonSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Reads an address book in the format written by this class from {@code parser}, converting each person to the
+     * model's {@code Person} as soon as it is read.
+     * Unlike reading this class and calling {@link #toModelType()}, only one person is held in its JSON form at a
+     * time.
+     *
+     * @throws IOException if the JSON is malformed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        return readModelType(parser, false, null);
+    }
+
+    /**
+     * Similar to {@link #readModelType(JsonParser)}, but if {@code isParallel} is true, the persons are read in chunks
+     * of {@value #PARALLEL_CHUNK_SIZE} that are converted on the common fork-join pool while the next chunks are read.
+     * The converted chunks are added in file order, each person checked for duplicates as it is added, so a file
+     * fails with the same error either way: that of the first invalid or duplicate person in the file.
+     * If {@code records} is not null, it must hold the file {@code parser} reads, and each person is instead read
+     * as just its name, with the position of its record in the file to load and validate its other fields from when
+     * they are first needed. This is done in order on the calling thread, as there is little left to convert.
+     *
+     * @throws IOException if the JSON is malformed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser, boolean isParallel, JsonPersonRecords records)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!fieldName.equals("persons") || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
+            }
+            if (records != null) {
+                readPersonsLazily(parser, addressBook, records);
+            } else if (isParallel) {
+                readPersonsInParallel(parser, addressBook);
+            } else {
+                readPersons(parser, addressBook);
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the persons in the array {@code parser} is at, adding them to {@code addressBook} one by one.
+     */
+    private static void readPersons(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            addPerson(addressBook, parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+        }
+    }
+
+    /**
+     * Reads the persons in the array {@code parser} is at, adding each to {@code addressBook} as a person that holds
+     * only its name and loads its other fields from its record in {@code records}.
+     */
+    private static void readPersonsLazily(JsonParser parser, AddressBook addressBook, JsonPersonRecords records)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            long position = parser.getTokenLocation().getByteOffset();
+            if (position < 0) {
+                // the parser only counts bytes in UTF-8 files, so a record elsewhere cannot be found again
+                addPerson(addressBook, parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+                continue;
+            }
+            String name = readName(parser);
+            int length = Math.toIntExact(parser.getCurrentLocation().getByteOffset() - position);
+            addPerson(addressBook, JsonAdaptedPerson.toLazyModelType(name, () -> records.load(position, length)));
+        }
+    }
+
+    /**
+     * Reads the person object {@code parser} is at up to its end, and returns its name, or null if it has none.
+     */
+    private static String readName(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a person object");
+        }
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals("name")) {
+                name = parser.getValueAsString();
+            }
+            parser.skipChildren();
+        }
+        return name;
+    }
+
+    /**
+     * Reads the persons in the array {@code parser} is at, converting them on the common fork-join pool, and adds
+     * them to {@code addressBook} one chunk at a time, in order.
+     */
+    private static void readPersonsInParallel(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        // bounds the persons held in their JSON form when reading outpaces converting
+        int maxPendingChunks = pool.getParallelism() * 4;
+        Deque<PersonConversionTask> pendingChunks = new ArrayDeque<>();
+
+        List<JsonAdaptedPerson> chunk = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            chunk.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (chunk.size() == PARALLEL_CHUNK_SIZE) {
+                pendingChunks.add(submit(pool, chunk));
+                chunk = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+            }
+            if (pendingChunks.size() > maxPendingChunks) {
+                pendingChunks.remove().joinInto(addressBook);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            pendingChunks.add(submit(pool, chunk));
+        }
+        while (!pendingChunks.isEmpty()) {
+            pendingChunks.remove().joinInto(addressBook);
+        }
+    }
+
+    private static PersonConversionTask submit(ForkJoinPool pool, List<JsonAdaptedPerson> chunk) {
+        PersonConversionTask task = new PersonConversionTask(chunk);
+        pool.execute(task);
+        return task;
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook}.
+     *
+     * @throws IllegalValueException if {@code addressBook} already has the person.
+     */
+    private static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the format of this class, converting one person at a time.
+     * Unlike converting {@code source} into this class and writing that, the persons are never all held in their JSON
+     * form at once.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        // a single lazily mapped iterator lets Jackson write the whole array with one serializer provider
+        Iterator<JsonAdaptedPerson> persons = source.getPersonList().stream().map(JsonAdaptedPerson::new).iterator();
+        generator.writeStartObject();
+        generator.writeFieldName("persons");
+        generator.writeObject(persons);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Converts a chunk of persons to the model's {@code Person}, in order, stopping at the first invalid one.
+     */
+    private static class PersonConversionTask extends RecursiveAction {
+
+        private final List<JsonAdaptedPerson> jsonAdaptedPersons;
+        private final List<Person> persons;
+        private IllegalValueException error;
+
+        PersonConversionTask(List<JsonAdaptedPerson> jsonAdaptedPersons) {
+            this.jsonAdaptedPersons = jsonAdaptedPersons;
+            this.persons = new ArrayList<>(jsonAdaptedPersons.size());
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+                    persons.add(jsonAdaptedPerson.toModelType());
+                }
+            } catch (IllegalValueException ive) {
+                error = ive;
+            }
+        }
+
+        /**
+         * Waits for this chunk to be converted and adds its persons to {@code addressBook}, up to its first invalid
+         * person.
+         *
+         * @throws IllegalValueException if a person in this chunk is invalid, or is already in {@code addressBook}.
+         */
+        void joinInto(AddressBook addressBook) throws IllegalValueException {
+            join();
+            for (Person person : persons) {
+                addPerson(addressBook, person);
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+
 }
@@ -0,0 +1,530 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.CharConversionException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.Durability;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that splits the persons of an address book across several shard files by a stable
+ * hash of their names, so that a save rewrites only the shards whose persons changed.
+ *
+ * The file at the address book file path is a small JSON manifest that lists the shard files. Each shard is kept by
+ * another {@code AddressBookStorage}, such as {@link JsonAddressBookStorage}, in its own format, next to the manifest.
+ * Next to each shard file is an order file with a key for each person of the shard. The keys increase along the
+ * address book, so merging the shards by key restores the order of the persons. A person keeps its key while it stays
+ * in place, so a save rewrites only the shards whose persons changed, each with its order file, and the manifest,
+ * whose size depends only on the number of shards.
+ *
+ * A save writes the changed shards to new files and then atomically replaces the manifest, so an interrupted save
+ * leaves the previous manifest and all of its shards intact. Shards are read and written on the common fork-join pool.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    /** The largest number of shards, which bounds the number of files a save may write. */
+    public static final int MAX_SHARD_COUNT = 36;
+    public static final String SHARD_FILE_INFIX = ".shard-";
+    public static final String ORDER_FILE_SUFFIX = ".order";
+
+    public static final String MESSAGE_INVALID_SHARD_COUNT = "Shard count should be between 1 and " + MAX_SHARD_COUNT;
+    public static final String MESSAGE_INCONSISTENT_SHARDS = "Shards do not match the order in their manifest";
+
+    private static final String MANIFEST_FIRST_FIELD = "shards";
+    /** The gap between the keys of neighbouring persons when they are given new keys. */
+    private static final long KEY_GAP = 1 << 10;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int shardCount;
+    private final Function<Path, AddressBookStorage> shardStorageFactory;
+    private final Durability durability;
+
+    /** Manifest whose shards together hold {@code savedShards}, or null if unknown. */
+    private Path savedFilePath;
+    private JsonAdaptedShardManifest savedManifest;
+    /** The persons and keys in each shard as of the last read or save of {@code savedFilePath}. */
+    private List<Shard> savedShards;
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} with its manifest at {@code filePath} that splits address books
+     * into {@code shardCount} shards, each kept by the storage {@code shardStorageFactory} returns for its file path,
+     * and forces the manifest to the storage device as required by {@code durability}.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardCount,
+            Function<Path, AddressBookStorage> shardStorageFactory, Durability durability) {
+        requireNonNull(filePath);
+        requireNonNull(shardStorageFactory);
+        requireNonNull(durability);
+        checkArgument(isValidShardCount(shardCount), MESSAGE_INVALID_SHARD_COUNT);
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+        this.shardStorageFactory = shardStorageFactory;
+        this.durability = durability;
+    }
+
+    /**
+     * Returns true if {@code shardCount} is a valid number of shards.
+     */
+    public static boolean isValidShardCount(int shardCount) {
+        return shardCount >= 1 && shardCount <= MAX_SHARD_COUNT;
+    }
+
+    /**
+     * Returns the shard, out of {@code shardCount}, of the person named {@code name}.
+     * This depends only on the name, so a person stays in the same shard until renamed.
+     */
+    public static int getShardIndex(Name name, int shardCount) {
+        return Math.floorMod(name.fullName.hashCode(), shardCount);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is the manifest of a sharded address book.
+     */
+    public static boolean isManifestFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && parser.getCurrentName().equals(MANIFEST_FIRST_FIELD);
+        } catch (JsonProcessingException | CharConversionException e) {
+            // not JSON, e.g. a binary or compressed address book
+            return false;
+        }
+    }
+
+    /**
+     * Returns the path of the order file kept next to the shard file at {@code shardFilePath}.
+     */
+    public static Path getOrderFilePath(Path shardFilePath) {
+        return shardFilePath.resolveSibling(shardFilePath.getFileName() + ORDER_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the paths of the shard files listed in the manifest at {@code filePath}.
+     */
+    public static List<Path> getShardFilePaths(Path filePath) throws IOException, IllegalValueException {
+        return toShardFilePaths(filePath, readManifest(filePath).getShardFileNames());
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        JsonAdaptedShardManifest manifest;
+        try {
+            manifest = readManifest(filePath);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading shard manifest " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<Shard> shards = readShards(toShardFilePaths(filePath, manifest.getShardFileNames()));
+        List<Person> persons;
+        try {
+            persons = merge(shards);
+            checkNoDuplicates(persons);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        setSaved(filePath, manifest, shards);
+        // not an AddressBook, whose indexes would only be built to be copied by the caller
+        return Optional.of(new AddressBookSnapshot(new PersonList(persons)));
+    }
+
+    private static JsonAdaptedShardManifest readManifest(Path filePath) throws IOException, IllegalValueException {
+        String json = Files.readString(filePath, StandardCharsets.UTF_8);
+        JsonAdaptedShardManifest manifest = JsonUtil.fromJsonString(json, JsonAdaptedShardManifest.class);
+        manifest.validate();
+        return manifest;
+    }
+
+    /**
+     * Reads the persons and keys of each shard at {@code shardFilePaths} in parallel.
+     */
+    private List<Shard> readShards(List<Path> shardFilePaths) throws DataLoadingException {
+        List<Callable<Shard>> tasks = new ArrayList<>();
+        for (Path shardFilePath : shardFilePaths) {
+            tasks.add(() -> {
+                ReadOnlyAddressBook shard = shardStorageFactory.apply(shardFilePath).readAddressBook(shardFilePath)
+                        .orElseThrow(() -> new DataLoadingException(
+                                new NoSuchFileException(shardFilePath.toString())));
+                String keysJson = Files.readString(getOrderFilePath(shardFilePath), StandardCharsets.UTF_8);
+                // copied so that the address book read, with its indexes, is not kept alive
+                return new Shard(new ArrayList<>(shard.getPersonList()),
+                        JsonUtil.fromJsonString(keysJson, long[].class));
+            });
+        }
+
+        try {
+            return invokeAll(tasks);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the persons of {@code shards} in the order of their keys.
+     *
+     * @throws IllegalValueException if a shard does not have one key per person, or the keys of the persons in
+     *     order do not strictly increase.
+     */
+    private static List<Person> merge(List<Shard> shards) throws IllegalValueException {
+        int[] nextIndexes = new int[shards.size()];
+        PriorityQueue<Integer> nextShards = new PriorityQueue<>(
+                Comparator.comparingLong(shard -> shards.get(shard).keys[nextIndexes[shard]]));
+        int personCount = 0;
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get(i);
+            if (shard.keys.length != shard.persons.size()) {
+                throw new IllegalValueException(MESSAGE_INCONSISTENT_SHARDS);
+            }
+            if (!shard.persons.isEmpty()) {
+                nextShards.add(i);
+            }
+            personCount += shard.persons.size();
+        }
+
+        List<Person> persons = new ArrayList<>(personCount);
+        long previousKey = 0;
+        while (!nextShards.isEmpty()) {
+            int i = nextShards.poll();
+            Shard shard = shards.get(i);
+            long key = shard.keys[nextIndexes[i]];
+            if (key <= previousKey) {
+                throw new IllegalValueException(MESSAGE_INCONSISTENT_SHARDS);
+            }
+            persons.add(shard.persons.get(nextIndexes[i]++));
+            previousKey = key;
+            if (nextIndexes[i] < shard.persons.size()) {
+                nextShards.add(i);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Checks that no two of {@code persons} are the same person, which the persons of different shards could be.
+     *
+     * @throws IllegalValueException if there are duplicate persons.
+     */
+    private static void checkNoDuplicates(List<Person> persons) throws IllegalValueException {
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        long[] keys = assignKeys(persons, filePath.equals(savedFilePath) ? savedShards : List.of());
+        List<Shard> shards = split(persons, keys);
+
+        JsonAdaptedShardManifest previousManifest = filePath.equals(savedFilePath)
+                ? savedManifest
+                : readPreviousManifest(filePath);
+        boolean isSameLayout = filePath.equals(savedFilePath) && savedShards.size() == shardCount;
+        long generation = previousManifest == null ? 1 : previousManifest.getGeneration() + 1;
+
+        List<String> shardFileNames = new ArrayList<>(shardCount);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            if (isSameLayout && savedShards.get(i).isSameAs(shards.get(i))) {
+                shardFileNames.add(savedManifest.getShardFileNames().get(i));
+                continue;
+            }
+            String shardFileName = filePath.getFileName() + SHARD_FILE_INFIX + i + "." + generation;
+            shardFileNames.add(shardFileName);
+            Path shardFilePath = filePath.resolveSibling(shardFileName);
+            Shard shard = shards.get(i);
+            tasks.add(() -> {
+                shardStorageFactory.apply(shardFilePath).saveAddressBook(new PersonList(shard.persons), shardFilePath);
+                String keysJson = JsonUtil.toCompactJsonString(shard.keys);
+                FileUtil.writeAtomically(getOrderFilePath(shardFilePath), durability,
+                        out -> out.write(keysJson.getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        }
+
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        writeShards(tasks);
+        JsonAdaptedShardManifest manifest = new JsonAdaptedShardManifest(shardFileNames, generation);
+        String manifestJson = JsonUtil.toCompactJsonString(manifest);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeAtomically(filePath, durability, out -> out.write(manifestJson.getBytes(StandardCharsets.UTF_8)));
+        logger.fine("Wrote " + tasks.size() + " of " + shardCount + " shards of " + filePath);
+
+        if (previousManifest != null) {
+            deleteObsoleteShards(filePath, previousManifest.getShardFileNames(), shardFileNames);
+        }
+        setSaved(filePath, manifest, shards);
+    }
+
+    /**
+     * Returns the manifest at {@code filePath} that is about to be replaced, or null if there is none.
+     */
+    private static JsonAdaptedShardManifest readPreviousManifest(Path filePath) {
+        try {
+            return Files.exists(filePath) && isManifestFile(filePath) ? readManifest(filePath) : null;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Ignoring unreadable shard manifest " + filePath + ": " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns a key for each of {@code persons}, increasing along the list.
+     * Each person in {@code oldShards} keeps its key where the order allows, so that a shard whose persons did not
+     * change keeps its keys too. The other persons are given keys spread between those of their neighbours. If the
+     * persons were reordered, or there is no room left between two keys, every person is given a new key.
+     * Persons are compared by reference, as an unchanged {@code Person} is the very same instance.
+     */
+    private static long[] assignKeys(List<Person> persons, List<Shard> oldShards) {
+        Map<Person, Long> oldKeys = new IdentityHashMap<>();
+        for (Shard shard : oldShards) {
+            for (int i = 0; i < shard.persons.size(); i++) {
+                oldKeys.put(shard.persons.get(i), shard.keys[i]);
+            }
+        }
+
+        long[] keys = new long[persons.size()];
+        long previousKey = 0;
+        int firstWithoutKey = 0;
+        for (int i = 0; i <= persons.size(); i++) {
+            Long oldKey = i < persons.size() ? oldKeys.get(persons.get(i)) : null;
+            if (oldKey == null && i < persons.size()) {
+                continue;
+            }
+
+            // persons firstWithoutKey to i - 1 are new or edited, and go between previousKey and the next key
+            int withoutKeyCount = i - firstWithoutKey;
+            long nextKey = oldKey != null ? oldKey : previousKey + (withoutKeyCount + 1) * KEY_GAP;
+            long step = (nextKey - previousKey) / (withoutKeyCount + 1);
+            if (step <= 0) {
+                return getNewKeys(persons.size());
+            }
+            for (int j = 0; j < withoutKeyCount; j++) {
+                keys[firstWithoutKey + j] = previousKey + (j + 1) * step;
+            }
+            if (oldKey != null) {
+                keys[i] = oldKey;
+                previousKey = oldKey;
+            }
+            firstWithoutKey = i + 1;
+        }
+        return keys;
+    }
+
+    private static long[] getNewKeys(int personCount) {
+        long[] keys = new long[personCount];
+        for (int i = 0; i < personCount; i++) {
+            keys[i] = (i + 1) * KEY_GAP;
+        }
+        return keys;
+    }
+
+    /**
+     * Splits {@code persons}, with their {@code keys}, into shards by their names.
+     */
+    private List<Shard> split(List<Person> persons, long[] keys) {
+        int[] shardIndexes = new int[persons.size()];
+        int[] shardSizes = new int[shardCount];
+        for (int i = 0; i < persons.size(); i++) {
+            shardIndexes[i] = getShardIndex(persons.get(i).getName(), shardCount);
+            shardSizes[shardIndexes[i]]++;
+        }
+
+        List<Shard> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard(new ArrayList<>(shardSizes[i]), new long[shardSizes[i]]));
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            Shard shard = shards.get(shardIndexes[i]);
+            shard.keys[shard.persons.size()] = keys[i];
+            shard.persons.add(persons.get(i));
+        }
+        return shards;
+    }
+
+    private static void writeShards(List<Callable<Void>> tasks) throws IOException {
+        try {
+            invokeAll(tasks);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static void deleteObsoleteShards(Path filePath, List<String> oldShardFileNames,
+            List<String> newShardFileNames) throws IOException {
+        Set<String> retainedShardFileNames = new HashSet<>(newShardFileNames);
+        for (String shardFileName : oldShardFileNames) {
+            if (!retainedShardFileNames.contains(shardFileName)) {
+                Path shardFilePath = filePath.resolveSibling(shardFileName);
+                Files.deleteIfExists(shardFilePath);
+                Files.deleteIfExists(getOrderFilePath(shardFilePath));
+            }
+        }
+    }
+
+    private void setSaved(Path filePath, JsonAdaptedShardManifest manifest, List<Shard> shards) {
+        savedFilePath = filePath;
+        savedManifest = manifest;
+        savedShards = shards;
+    }
+
+    private static List<Path> toShardFilePaths(Path filePath, List<String> shardFileNames) {
+        List<Path> shardFilePaths = new ArrayList<>(shardFileNames.size());
+        for (String shardFileName : shardFileNames) {
+            shardFilePaths.add(filePath.resolveSibling(shardFileName));
+        }
+        return shardFilePaths;
+    }
+
+    /**
+     * Runs {@code tasks} on the common fork-join pool and returns their results in order.
+     *
+     * @throws ExecutionException with the exception of the first task that failed, if any.
+     */
+    private static <T> List<T> invokeAll(List<Callable<T>> tasks) throws ExecutionException {
+        List<T> results = new ArrayList<>(tasks.size());
+        for (Future<T> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                // invokeAll has already waited for every task, so this is only reached if the thread is interrupted
+                Thread.currentThread().interrupt();
+                throw new ExecutionException(e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * The persons of one shard, in order, with the key of each.
+     */
+    private static class Shard {
+
+        private final List<Person> persons;
+        private final long[] keys;
+
+        Shard(List<Person> persons, long[] keys) {
+            this.persons = persons;
+            this.keys = keys;
+        }
+
+        /**
+         * Returns true if {@code other} holds the same persons with the same keys.
+         * Persons are compared by reference, as an unchanged {@code Person} is the very same instance.
+         */
+        boolean isSameAs(Shard other) {
+            if (persons.size() != other.persons.size() || !Arrays.equals(keys, other.keys)) {
+                return false;
+            }
+            for (int i = 0; i < persons.size(); i++) {
+                if (persons.get(i) != other.persons.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A list of persons without duplicates, such as those of one shard, viewed as an address book.
+     */
+    private static class PersonList implements ReadOnlyAddressBook {
+
+        private final ObservableList<Person> persons;
+        private final AddressBookChange lastChange = AddressBookChange.start();
+
+        PersonList(List<Person> persons) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public AddressBookChange getLastChange() {
+            return lastChange;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} whose file format can also be read from and written to streams, so that another
+ * storage can change how the bytes reach the disk, e.g. by compressing them.
+ */
+public interface StreamingAddressBookStorage extends AddressBookStorage {
+
+    /**
+     * Reads an address book in the format of this storage from {@code in}.
+     *
+     * @throws IOException if the content is malformed or could not be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    ReadOnlyAddressBook readFrom(InputStream in) throws IOException, IllegalValueException;
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the format of this storage, without closing {@code out}.
+     */
+    void writeTo(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException;
+
+}
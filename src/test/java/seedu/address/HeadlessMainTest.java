@@ -0,0 +1,89 @@
+package seedu.address;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path configFilePath;
+    private Path addressBookFilePath;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        configFilePath = testFolder.resolve("config.json");
+        Path userPrefsFilePath = testFolder.resolve("preferences.json");
+        addressBookFilePath = testFolder.resolve("addressbook.json");
+        Files.writeString(configFilePath, "{\"userPrefsFilePath\" : " + toJson(userPrefsFilePath) + "}");
+        Files.writeString(userPrefsFilePath, "{\"addressBookFilePath\" : " + toJson(addressBookFilePath) + "}");
+    }
+
+    @Test
+    public void run_commandsFromStandardInput_executedAndSaved() throws Exception {
+        String commands = ListCommand.COMMAND_WORD + "\n\n" + PersonUtil.getAddCommand(AMY) + "\n";
+
+        int status = run(commands, HeadlessMain.HEADLESS_FLAG, "--config=" + configFilePath);
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, status);
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)) + System.lineSeparator(),
+                out.toString(UTF_8));
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get();
+        assertEquals(SampleDataUtil.getSamplePersons().length + 1, saved.getPersonList().size());
+    }
+
+    @Test
+    public void run_commandsFromFileWithFailure_failureStatus() throws Exception {
+        Path commandFile = testFolder.resolve("commands.txt");
+        Files.writeString(commandFile, "unknownCommand\nexit\n" + ListCommand.COMMAND_WORD + "\n");
+
+        int status = run("", "--config=" + configFilePath, commandFile.toString());
+
+        assertEquals(HeadlessMain.EXIT_FAILURE, status);
+        assertEquals(Messages.MESSAGE_UNKNOWN_COMMAND + System.lineSeparator(), err.toString(UTF_8));
+        // reading stops at the exit command
+        assertFalse(out.toString(UTF_8).contains(ListCommand.MESSAGE_SUCCESS));
+    }
+
+    @Test
+    public void run_missingCommandFile_failureStatus() {
+        int status = run("", "--config=" + configFilePath, testFolder.resolve("missing.txt").toString());
+
+        assertEquals(HeadlessMain.EXIT_FAILURE, status);
+        assertTrue(err.toString(UTF_8).startsWith("Could not read commands from"));
+    }
+
+    private int run(String input, String... args) {
+        return HeadlessMain.run(args, new ByteArrayInputStream(input.getBytes(UTF_8)),
+                new PrintStream(out, true, UTF_8), new PrintStream(err, true, UTF_8));
+    }
+
+    private static String toJson(Path path) {
+        return "\"" + path.toString().replace("\\", "\\\\") + "\"";
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private JsonAddressBookStorage addressBookStorage;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage);
+        server = new ApiServer(logic, 0, Runnable::run);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void constructor_invalidPort_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ApiServer.MESSAGE_INVALID_PORT, () ->
+                new ApiServer(new LogicManager(new ModelManager(), null), 65536, Runnable::run));
+    }
+
+    @Test
+    public void getPersons_noParameters_allPersonsListed() throws Exception {
+        HttpResponse<byte[]> response = get("");
+        assertEquals(200, response.statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList(), readPersons(response));
+    }
+
+    @Test
+    public void getPersons_filters_matchingPersonsListed() throws Exception {
+        assertEquals(List.of(ALICE), readPersons(get("?name=alice&tag=friends&doctor=James")));
+        assertEquals(List.of(ALICE, BENSON), readPersons(get("?name=benson%20ALICE")));
+        assertEquals(List.of(ALICE), readPersons(get("?name=benson+alice&limit=1")));
+        assertEquals(List.of(BENSON), readPersons(get("?tag=friends&tag=owesMoney")));
+    }
+
+    @Test
+    public void getPersons_invalidParameters_badRequest() throws Exception {
+        assertError(get("?limit=0"), 400, ApiServer.MESSAGE_INVALID_LIMIT);
+        assertError(get("?unknown=1"), 400, String.format(ApiServer.MESSAGE_UNKNOWN_PARAMETER, "unknown"));
+        assertError(get("?name=%20"), 400, ApiServer.MESSAGE_BLANK_NAME);
+        assertThrows(ParseException.class, ApiServer.MESSAGE_INVALID_QUERY, () -> ApiServer.parseQuery("name=%zz"));
+    }
+
+    @Test
+    public void getPersons_manyConcurrentReaders_allServed() throws Exception {
+        List<CompletableFuture<HttpResponse<byte[]>>> responses = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            responses.add(client.sendAsync(HttpRequest.newBuilder(uri(ApiServer.PERSONS_PATH)).build(),
+                    HttpResponse.BodyHandlers.ofByteArray()));
+        }
+        for (CompletableFuture<HttpResponse<byte[]>> response : responses) {
+            assertEquals(getTypicalAddressBook().getPersonList(), readPersons(response.get()));
+        }
+    }
+
+    @Test
+    public void postCommand_validCommand_executed() throws Exception {
+        HttpResponse<byte[]> response = post(PersonUtil.getAddCommand(AMY), ApiServer.JSON_MEDIA_TYPE);
+
+        assertEquals(200, response.statusCode());
+        assertEquals(JsonUtil.toCompactJsonString(
+                Map.of("feedback", String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)))),
+                new String(response.body(), UTF_8));
+        assertTrue(readPersons(get("")).contains(AMY));
+        assertTrue(addressBookStorage.readAddressBook().get().getPersonList().contains(AMY));
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        assertError(post("unknownCommand", ApiServer.JSON_MEDIA_TYPE), 400, Messages.MESSAGE_UNKNOWN_COMMAND);
+    }
+
+    @Test
+    public void postCommand_invalidRequest_refused() throws Exception {
+        // a content type that web pages can send without asking first
+        assertError(post(PersonUtil.getAddCommand(AMY), "text/plain"), 415, ApiServer.MESSAGE_UNSUPPORTED_MEDIA_TYPE);
+        assertFalse(readPersons(get("")).contains(AMY));
+
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH))
+                .header("Content-Type", ApiServer.JSON_MEDIA_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofString("[\"list\"]")).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertError(response, 400, ApiServer.MESSAGE_INVALID_BODY);
+    }
+
+    @Test
+    public void request_wrongMethodOrPath_refused() throws Exception {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri(ApiServer.PERSONS_PATH))
+                .DELETE().build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertError(response, 405, String.format(ApiServer.MESSAGE_METHOD_NOT_ALLOWED, ApiServer.PERSONS_PATH, "GET"));
+
+        response = client.send(HttpRequest.newBuilder(uri(ApiServer.PERSONS_PATH + "/1")).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(404, response.statusCode());
+    }
+
+    @Test
+    public void isLoopbackHost() {
+        assertTrue(ApiServer.isLoopbackHost("localhost"));
+        assertTrue(ApiServer.isLoopbackHost("LocalHost:8080"));
+        assertTrue(ApiServer.isLoopbackHost("127.0.0.1:8080"));
+        assertTrue(ApiServer.isLoopbackHost("[::1]"));
+        assertTrue(ApiServer.isLoopbackHost("[::1]:8080"));
+
+        assertFalse(ApiServer.isLoopbackHost(null));
+        assertFalse(ApiServer.isLoopbackHost(""));
+        assertFalse(ApiServer.isLoopbackHost("example.com"));
+        assertFalse(ApiServer.isLoopbackHost("localhost.example.com:8080"));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+
+    private HttpResponse<byte[]> get(String query) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(ApiServer.PERSONS_PATH + query)).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private HttpResponse<byte[]> post(String commandText, String contentType) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(JsonUtil.toCompactJsonString(
+                        Map.of("command", commandText)))).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private List<Person> readPersons(HttpResponse<byte[]> response) throws Exception {
+        assertEquals(200, response.statusCode());
+        return addressBookStorage.readFrom(new ByteArrayInputStream(response.body())).getPersonList();
+    }
+
+    private void assertError(HttpResponse<byte[]> response, int expectedStatus, String expectedMessage)
+            throws Exception {
+        assertEquals(expectedStatus, response.statusCode());
+        assertEquals(JsonUtil.toCompactJsonString(Map.of("error", expectedMessage)),
+                new String(response.body(), UTF_8));
+    }
+}
@@ -12,7 +12,18 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", writeBehindEnabled=" + config.isWriteBehindEnabled()
+                + ", journalEnabled=" + config.isJournalEnabled()
+                + ", journalMaxBytes=" + config.getJournalMaxBytes()
+                + ", journalMaxAgeSeconds=" + config.getJournalMaxAgeSeconds()
+                + ", prettyPrintMaxPersons=" + config.getPrettyPrintMaxPersons()
+                + ", saveDurability=" + config.getSaveDurability()
+                + ", compressionLevel=" + config.getCompressionLevel()
+                + ", parallelLoadEnabled=" + config.isParallelLoadEnabled()
+                + ", lazyLoadEnabled=" + config.isLazyLoadEnabled()
+                + ", shardCount=" + config.getShardCount()
+                + ", apiPort=" + config.getApiPort() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,87 @@
+package seedu.address.commons.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Compares the ways of reading a large JSON data file: reading it into a {@code String} as
+ * {@link FileUtil#readFromFile(Path)} does, streaming it through the usual system calls, and streaming it through a
+ * memory mapping as {@link FileUtil#openForReading(Path)} does for large files.
+ * Each way reads every JSON token of the file, and is timed over several rounds after a warm-up round.
+ *
+ * Run with {@code gradlew readBenchmark -Pfile=FILE [-Prounds=ROUNDS]}.
+ */
+public class FileReadBenchmark {
+
+    private static final int DEFAULT_ROUNDS = 5;
+
+    /**
+     * Reads every token of the JSON file given as the first argument in each way, as many times as the optional
+     * second argument says, and prints the average time taken by each.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: FileReadBenchmark FILE [ROUNDS]");
+            System.exit(1);
+        }
+        Path file = Paths.get(args[0]);
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+        System.out.println("File: " + file + " (" + (Files.size(file) >> 20) + " MB), rounds: " + rounds);
+
+        for (Way way : Way.values()) {
+            way.countTokens(file);
+            long startNanos = System.nanoTime();
+            long tokens = 0;
+            for (int i = 0; i < rounds; i++) {
+                tokens = way.countTokens(file);
+            }
+            long averageMillis = (System.nanoTime() - startNanos) / rounds / 1_000_000;
+            System.out.println(String.format("%-8s %6d ms  (%d tokens)", way, averageMillis, tokens));
+        }
+    }
+
+    private static long countTokens(JsonParser parser) throws IOException {
+        long tokens = 0;
+        while (parser.nextToken() != null) {
+            tokens++;
+        }
+        return tokens;
+    }
+
+    private enum Way {
+        STRING {
+            @Override
+            long countTokens(Path file) throws IOException {
+                String json = FileUtil.readFromFile(file);
+                try (JsonParser parser = new JsonFactory().createParser(json)) {
+                    return FileReadBenchmark.countTokens(parser);
+                }
+            }
+        },
+        STREAMED {
+            @Override
+            long countTokens(Path file) throws IOException {
+                try (InputStream in = FileUtil.openForReading(file, Long.MAX_VALUE);
+                        JsonParser parser = JsonUtil.createParser(in)) {
+                    return FileReadBenchmark.countTokens(parser);
+                }
+            }
+        },
+        MAPPED {
+            @Override
+            long countTokens(Path file) throws IOException {
+                try (InputStream in = FileUtil.openForReading(file, 0); JsonParser parser = JsonUtil.createParser(in)) {
+                    return FileReadBenchmark.countTokens(parser);
+                }
+            }
+        };
+
+        abstract long countTokens(Path file) throws IOException;
+    }
+}
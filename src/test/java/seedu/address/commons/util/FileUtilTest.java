@@ -1,13 +1,28 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +35,114 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_everyDurability_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("file.txt");
+        for (Durability durability : Durability.values()) {
+            FileUtil.writeAtomically(file, durability, out -> {
+                out.write(durability.name().getBytes(StandardCharsets.UTF_8));
+                out.close(); // closing the stream must not stop the file from being forced
+            });
+            assertEquals(durability.name(), Files.readString(file));
+            assertFalse(Files.exists(testFolder.resolve("sub").resolve("file.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+        }
+    }
+
+    @Test
+    public void truncateToLastLine_incompleteLastLine_cutOff() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        String longLine = "x".repeat(20000);
+        FileUtil.writeToFile(file, "first\n" + longLine + "\npart" + longLine);
+
+        assertEquals(4 + longLine.length(), FileUtil.truncateToLastLine(file, Durability.DATA));
+        assertEquals("first\n" + longLine + "\n", Files.readString(file));
+
+        // complete lines are kept
+        assertEquals(0, FileUtil.truncateToLastLine(file, Durability.DATA));
+        assertEquals("first\n" + longLine + "\n", Files.readString(file));
+
+        // no line break at all
+        FileUtil.writeToFile(file, longLine);
+        assertEquals(longLine.length(), FileUtil.truncateToLastLine(file, Durability.NONE));
+        assertEquals("", Files.readString(file));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_oldContentKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, Durability.DATA, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+        assertEquals("old", Files.readString(file));
+        assertFalse(Files.exists(testFolder.resolve("file.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void appendToFile_everyDurability_contentAppended() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        StringBuilder expected = new StringBuilder();
+        for (Durability durability : Durability.values()) {
+            FileUtil.appendToFile(file, durability.name() + "\n", durability);
+            expected.append(durability.name()).append('\n');
+        }
+        assertEquals(expected.toString(), Files.readString(file));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "Large files are not memory-mapped on Windows")
+    public void openForReading_mapped_sameContentAsFile() throws Exception {
+        Path file = testFolder.resolve("file.bin");
+        byte[] content = new byte[100_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        Files.write(file, content);
+
+        try (InputStream in = FileUtil.openForReading(file, 0)) {
+            assertTrue(in.markSupported());
+            assertEquals(content[0] & 0xff, in.read());
+            in.mark(0);
+            assertEquals(10, in.skip(10));
+            in.reset();
+            byte[] rest = in.readAllBytes();
+            assertArrayEquals(Arrays.copyOfRange(content, 1, content.length), rest);
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "Large files are not memory-mapped on Windows")
+    public void openForReading_mappedThenClosed_fileReplaceable() throws Exception {
+        Path file = testFolder.resolve("file.bin");
+        Path replacement = testFolder.resolve("replacement.bin");
+        Files.write(file, new byte[] {1, 2, 3});
+        Files.write(replacement, new byte[] {4, 5});
+
+        InputStream in = FileUtil.openForReading(file, 0);
+        assertTrue(in.markSupported());
+        assertArrayEquals(new byte[] {1, 2, 3}, in.readAllBytes());
+        in.close();
+        assertThrows(IOException.class, () -> in.read());
+
+        FileUtil.moveAtomically(replacement, file, Durability.NONE);
+        try (InputStream replaced = FileUtil.openForReading(file, 0)) {
+            assertArrayEquals(new byte[] {4, 5}, replaced.readAllBytes());
+        }
+    }
+
+    @Test
+    public void openForReading_emptyFile_endOfStream() throws Exception {
+        Path file = testFolder.resolve("empty.bin");
+        Files.write(file, new byte[0]);
+
+        try (InputStream in = FileUtil.openForReading(file, 0)) {
+            assertEquals(-1, in.read());
+        }
+        try (InputStream in = FileUtil.openForReading(file)) {
+            assertEquals(-1, in.read());
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,23 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for isAlphanumericWords --------------------------------------
+
+    @Test
+    public void isAlphanumericWords_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isAlphanumericWords(null));
+    }
+
+    @Test
+    public void isAlphanumericWords() {
+        // same result as the regex it replaces
+        String[] inputs = {"", " ", " a", "a", "a ", "Peter Jack", "peter*", "12345", "Capital Tan",
+            "tab\tseparated", "line\n", "\u00e9clair", "\uff41", "a-b", "_a"};
+        for (String input : inputs) {
+            assertEquals(input.matches("[\\p{Alnum}][\\p{Alnum} ]*"), StringUtil.isAlphanumericWords(input), input);
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Doctor;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the ways of validating the fields of a person: matching the published {@code VALIDATION_REGEX} with
+ * {@link String#matches(String)}, which compiles the regex on every call as the fields used to, matching a
+ * {@link Pattern} compiled once, and calling the {@code isValid*} method of the field as loading does now.
+ * Each way checks the same generated values, and is timed over several rounds after a warm-up round.
+ *
+ * Run with {@code gradlew validationBenchmark [-Pvalues=VALUES] [-Prounds=ROUNDS]}.
+ */
+public class ValidationBenchmark {
+
+    private static final int DEFAULT_VALUES = 1_000_000;
+    private static final int DEFAULT_ROUNDS = 5;
+
+    /**
+     * Validates as many values of each field as the optional first argument says, as many times as the optional
+     * second argument says, and prints the average time taken per value by each way.
+     */
+    public static void main(String[] args) {
+        int valueCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VALUES;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+        System.out.println("Values per field: " + valueCount + ", rounds: " + rounds);
+
+        for (Field field : Field.values()) {
+            String[] values = field.generate(valueCount);
+            Pattern pattern = Pattern.compile(field.regex);
+            StringBuilder line = new StringBuilder(String.format("%-9s", field));
+            line.append(time("matches", values, rounds, value -> value.matches(field.regex)));
+            line.append(time("pattern", values, rounds, value -> pattern.matcher(value).matches()));
+            line.append(time("isValid", values, rounds, field.validator));
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * Checks every value with {@code way}, once to warm up and then {@code rounds} times, and returns the average
+     * time per value, labelled with {@code label}.
+     */
+    private static String time(String label, String[] values, int rounds, Predicate<String> way) {
+        checkAll(values, way);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            if (checkAll(values, way) != values.length) {
+                throw new AssertionError(label + " rejected a valid value");
+            }
+        }
+        double nanosPerValue = (double) (System.nanoTime() - startNanos) / rounds / values.length;
+        return String.format("  %s %7.1f ns", label, nanosPerValue);
+    }
+
+    private static int checkAll(String[] values, Predicate<String> way) {
+        int validCount = 0;
+        for (String value : values) {
+            if (way.test(value)) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+
+    private enum Field {
+        NAME(Name.VALIDATION_REGEX, Name::isValidName, i -> "Patient " + i + " Tan"),
+        PHONE(Phone.VALIDATION_REGEX, Phone::isValidPhone, i -> String.valueOf(80_000_000 + i)),
+        EMAIL(Email.VALIDATION_REGEX, Email::isValidEmail, i -> "patient." + i + "@example-clinic.com"),
+        ADDRESS(Address.VALIDATION_REGEX, Address::isValidAddress, i -> i + ", Clementi Ave 2, #02-25"),
+        TAG(Tag.VALIDATION_REGEX, Tag::isValidTagName, i -> "ward-" + (i % 50)),
+        MEDICINE(Medicine.VALIDATION_REGEX, Medicine::isValidMedicineName, i -> "Paracetamol " + (i % 100)),
+        DOCTOR(Doctor.VALIDATION_REGEX, Doctor::isValidDoctor, i -> "Lim " + (i % 30));
+
+        private final String regex;
+        private final Predicate<String> validator;
+        private final IntFunction<String> generator;
+
+        Field(String regex, Predicate<String> validator, IntFunction<String> generator) {
+            this.regex = regex;
+            this.validator = validator;
+            this.generator = generator;
+        }
+
+        String[] generate(int count) {
+            String[] values = new String[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = generator.apply(i);
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonUtil;
+
+public class BatchCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allLinesValid_allCommandsRun() throws Exception {
+        Path file = writeBatchFile(PersonUtil.getAddCommand(HOON), "# a comment", "", PersonUtil.getAddCommand(IDA),
+                DeleteCommand.COMMAND_WORD + " 1");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+        expectedModel.addPerson(IDA);
+        expectedModel.deletePerson(ALICE);
+        String expectedMessage = String.format(BatchCommand.MESSAGE_SUCCESS, 3, file, 3, 0);
+
+        assertCommandSuccess(new BatchCommand(file, addressBookParser), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_someLinesFail_otherLinesRunAndFailuresReported() throws Exception {
+        Path file = writeBatchFile(PersonUtil.getAddCommand(ALICE), "unknownCommand", PersonUtil.getAddCommand(HOON),
+                BatchCommand.COMMAND_WORD + " " + testFolder.resolve("other.txt"));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+        String expectedMessage = String.format(BatchCommand.MESSAGE_SUCCESS, 4, file, 1, 3)
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE_FAILED, 1, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(BatchCommand.MESSAGE_LINE_FAILED, 4, BatchCommand.MESSAGE_NESTED_BATCH);
+
+        assertCommandSuccess(new BatchCommand(file, addressBookParser), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_manyLinesFail_onlyFirstFailuresReported() throws Exception {
+        String[] lines = new String[BatchCommand.MAX_REPORTED_FAILURES + 5];
+        Arrays.fill(lines, "unknownCommand");
+        Path file = writeBatchFile(lines);
+
+        CommandResult result = new BatchCommand(file, addressBookParser).execute(model);
+
+        String[] feedbackLines = result.getFeedbackToUser().split("\n");
+        assertEquals(BatchCommand.MAX_REPORTED_FAILURES + 2, feedbackLines.length);
+        assertEquals(String.format(BatchCommand.MESSAGE_MORE_LINES_FAILED, 5),
+                feedbackLines[feedbackLines.length - 1]);
+    }
+
+    @Test
+    public void execute_noModification_addressBookNotReplaced() throws Exception {
+        Path file = writeBatchFile(ListCommand.COMMAND_WORD);
+        long version = model.getAddressBookVersion();
+
+        new BatchCommand(file, addressBookParser).execute(model);
+
+        assertEquals(version, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.txt");
+        AddressBook expectedAddressBook = new AddressBook(model.getAddressBook());
+
+        assertThrows(CommandException.class, () -> new BatchCommand(file, addressBookParser).execute(model));
+        assertEquals(expectedAddressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(Path.of("a.txt"), addressBookParser);
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // same file -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(Path.of("a.txt"), new AddressBookParser())));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(batchCommand.equals(1));
+
+        // different file -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Path.of("b.txt"), addressBookParser)));
+    }
+
+    private Path writeBatchFile(String... lines) throws Exception {
+        Path file = testFolder.resolve("batch.txt");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
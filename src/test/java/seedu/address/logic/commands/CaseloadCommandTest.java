@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Doctor;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code CaseloadCommand}.
+ */
+public class CaseloadCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        CaseloadCommand caseloadJamesCommand = new CaseloadCommand(new Doctor("James"));
+        CaseloadCommand caseloadHarveyCommand = new CaseloadCommand(new Doctor("Harvey"));
+
+        // same object -> returns true
+        assertTrue(caseloadJamesCommand.equals(caseloadJamesCommand));
+
+        // same values -> returns true
+        assertTrue(caseloadJamesCommand.equals(new CaseloadCommand(new Doctor("James"))));
+        assertTrue(new CaseloadCommand().equals(new CaseloadCommand()));
+
+        // different types -> returns false
+        assertFalse(caseloadJamesCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(caseloadJamesCommand.equals(null));
+
+        // different doctor -> returns false
+        assertFalse(caseloadJamesCommand.equals(caseloadHarveyCommand));
+        assertFalse(caseloadJamesCommand.equals(new CaseloadCommand()));
+    }
+
+    @Test
+    public void execute_doctorSpecified_patientsListed() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        expectedModel.updateFilteredPersonList(person -> person.getDoctor().equals(new Doctor("Harvey")));
+        assertCommandSuccess(new CaseloadCommand(new Doctor("Harvey")), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_patientDeletedAfterListing_patientNoLongerListed() {
+        new CaseloadCommand(new Doctor("Harvey")).execute(model);
+
+        model.deletePerson(BENSON);
+
+        assertEquals(Arrays.asList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noDoctorSpecified_caseloadsReported() {
+        // ALICE and the persons built with the default doctor are under James, BENSON is under Harvey
+        String expectedMessage = String.format(CaseloadCommand.MESSAGE_CASELOADS, "• Harvey: 1\n• James: 6");
+        assertCommandSuccess(new CaseloadCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_afterDoctorChanged_caseloadsUpdated() {
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withDoctor("Harvey").build());
+        CommandResult result = new CaseloadCommand().execute(model);
+        assertEquals(String.format(CaseloadCommand.MESSAGE_CASELOADS, "• Harvey: 2\n• James: 5"),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noDoctorsAssigned_noDoctorsMessage() {
+        Model emptyModel = new ModelManager();
+        assertCommandSuccess(new CaseloadCommand(), emptyModel, CaseloadCommand.MESSAGE_NO_DOCTORS, new ModelManager());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Doctor doctor = new Doctor("James");
+        CaseloadCommand caseloadCommand = new CaseloadCommand(doctor);
+        String expected = CaseloadCommand.class.getCanonicalName() + "{doctor=" + doctor + "}";
+        assertEquals(expected, caseloadCommand.toString());
+    }
+}
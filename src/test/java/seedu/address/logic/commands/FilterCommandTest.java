@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        TagFilter firstFilter = new TagFilter(Set.of(new Tag("friends")), Set.of(), Set.of());
+        TagFilter secondFilter = new TagFilter(Set.of(), Set.of(), Set.of(new Tag("friends")));
+
+        FilterCommand filterFirstCommand = new FilterCommand(firstFilter);
+        FilterCommand filterSecondCommand = new FilterCommand(secondFilter);
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(new FilterCommand(firstFilter)));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different filter -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_unknownTag_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        TagFilter filter = new TagFilter(Set.of(new Tag("chronic")), Set.of(), Set.of());
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_requiredAndExcludedTags_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        TagFilter filter = new TagFilter(Set.of(new Tag("friends")), Set.of(), Set.of(new Tag("owesMoney")));
+        expectedModel.updateFilteredPersonList(Arrays.asList(ALICE, DANIEL)::contains);
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_afterPersonDeleted_deletedPersonNotListed() {
+        model.deletePerson(ALICE);
+        TagFilter filter = new TagFilter(Set.of(), Set.of(new Tag("owesMoney"), new Tag("friends")), Set.of());
+        new FilterCommand(filter).execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personDeletedAfterFilter_personNoLongerListed() {
+        TagFilter filter = new TagFilter(Set.of(new Tag("friends")), Set.of(), Set.of(new Tag("owesMoney")));
+        new FilterCommand(filter).execute(model);
+
+        model.deletePerson(ALICE);
+
+        assertEquals(Arrays.asList(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        TagFilter filter = new TagFilter(Set.of(new Tag("friends")), Set.of(), Set.of());
+        FilterCommand filterCommand = new FilterCommand(filter);
+        String expected = FilterCommand.class.getCanonicalName() + "{filter=" + filter + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+}
@@ -74,6 +74,15 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personDeletedAfterFind_listStaysCorrect() {
+        new FindCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+
+        model.deletePerson(ELLE);
+
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
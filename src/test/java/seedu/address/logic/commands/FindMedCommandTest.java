@@ -0,0 +1,108 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindMedCommand}.
+ */
+public class FindMedCommandTest {
+    private static final Person ALICE_ON_ASPIRIN = new PersonBuilder(ALICE).withMedicines("Aspirin").build();
+    private static final Person BENSON_ON_ASPIRIN_AND_IRON =
+            new PersonBuilder(BENSON).withMedicines("aspirin", "Iron Supplement").build();
+
+    private Model model = new ModelManager(getMedicatedAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getMedicatedAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindMedCommand findAspirinCommand = new FindMedCommand(Set.of(new Medicine("Aspirin")));
+        FindMedCommand findIronCommand = new FindMedCommand(Set.of(new Medicine("Iron")));
+
+        // same object -> returns true
+        assertTrue(findAspirinCommand.equals(findAspirinCommand));
+
+        // same values -> returns true
+        assertTrue(findAspirinCommand.equals(new FindMedCommand(Set.of(new Medicine("Aspirin")))));
+
+        // different types -> returns false
+        assertFalse(findAspirinCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findAspirinCommand.equals(null));
+
+        // different medicines -> returns false
+        assertFalse(findAspirinCommand.equals(findIronCommand));
+    }
+
+    @Test
+    public void execute_unknownMedicine_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FindMedCommand command = new FindMedCommand(Set.of(new Medicine("Ibuprofen")));
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_medicineInDifferentCase_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindMedCommand command = new FindMedCommand(Set.of(new Medicine("ASPIRIN")));
+        expectedModel.updateFilteredPersonList(person -> !person.getMedicines().isEmpty());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE_ON_ASPIRIN, BENSON_ON_ASPIRIN_AND_IRON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_afterPersonEdited_usesUpdatedMedicines() {
+        Person aliceOffAspirin = new PersonBuilder(ALICE_ON_ASPIRIN).withMedicines().build();
+        model.setPerson(ALICE_ON_ASPIRIN, aliceOffAspirin);
+        new FindMedCommand(Set.of(new Medicine("Aspirin"))).execute(model);
+        assertEquals(Arrays.asList(BENSON_ON_ASPIRIN_AND_IRON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personDeletedAfterFind_personNoLongerListed() {
+        new FindMedCommand(Set.of(new Medicine("Aspirin"))).execute(model);
+
+        model.deletePerson(ALICE_ON_ASPIRIN);
+
+        assertEquals(Arrays.asList(BENSON_ON_ASPIRIN_AND_IRON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<Medicine> medicines = Set.of(new Medicine("Aspirin"));
+        FindMedCommand findMedCommand = new FindMedCommand(medicines);
+        String expected = FindMedCommand.class.getCanonicalName() + "{medicines=" + medicines + "}";
+        assertEquals(expected, findMedCommand.toString());
+    }
+
+    private static AddressBook getMedicatedAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE_ON_ASPIRIN);
+        addressBook.addPerson(BENSON_ON_ASPIRIN_AND_IRON);
+        addressBook.addPerson(CARL);
+        return addressBook;
+    }
+}
@@ -136,6 +136,16 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixTaken() {
+        Prefix pSlashSlash = new Prefix("p//");
+        String argsString = "SomePreambleString p//double p/single";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashSlash);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlashSlash, "double");
+        assertArgumentPresent(argMultimap, pSlash, "single");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CaseloadCommand;
+import seedu.address.model.person.Doctor;
+
+public class CaseloadCommandParserTest {
+
+    private CaseloadCommandParser parser = new CaseloadCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsReportAllCommand() {
+        assertParseSuccess(parser, "   ", new CaseloadCommand());
+    }
+
+    @Test
+    public void parse_doctorSpecified_returnsDoctorCommand() {
+        assertParseSuccess(parser, " d/ William Reed ", new CaseloadCommand(new Doctor("William Reed")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, CaseloadCommand.MESSAGE_USAGE);
+
+        // preamble present
+        assertParseFailure(parser, " James", expectedMessage);
+
+        // blank doctor
+        assertParseFailure(parser, " d/  ", expectedMessage);
+
+        // invalid doctor name
+        assertParseFailure(parser, " d/Dr. Who", Doctor.MESSAGE_CONSTRAINTS);
+
+        // repeated doctor
+        assertParseFailure(parser, " d/James d/Harvey",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_DOCTOR));
+    }
+
+}
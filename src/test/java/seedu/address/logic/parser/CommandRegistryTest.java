@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.CaseloadCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindMedCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MedCommand;
+import seedu.address.logic.commands.ViewCommand;
+
+public class CommandRegistryTest {
+
+    @Test
+    public void withBuiltInCommands_builtInCommandWord_parserPresent() {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+        assertTrue(registry.getParser(ListCommand.COMMAND_WORD).isPresent());
+        assertTrue(registry.getParser(ClearCommand.COMMAND_WORD).isPresent());
+        assertFalse(registry.getParser("unknownCommand").isPresent());
+    }
+
+    @Test
+    public void withBuiltInCommands_everyCommandRegistration_registered() {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+        for (String commandWord : List.of(AddCommand.COMMAND_WORD, BatchCommand.COMMAND_WORD,
+                CaseloadCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD,
+                EditCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD, FilterCommand.COMMAND_WORD,
+                FindCommand.COMMAND_WORD, FindMedCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD, MedCommand.COMMAND_WORD, ViewCommand.COMMAND_WORD)) {
+            assertTrue(registry.getParser(commandWord).isPresent(), commandWord);
+        }
+    }
+
+    @Test
+    public void register_newCommandWord_recognizedByParser() throws Exception {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+        registry.register("ls", arguments -> new ListCommand());
+        assertTrue(new AddressBookParser(registry).parseCommand("ls") instanceof ListCommand);
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_DUPLICATE_COMMAND_WORD,
+                ListCommand.COMMAND_WORD), () -> registry.register(ListCommand.COMMAND_WORD, arguments -> null));
+    }
+
+    @Test
+    public void register_null_throwsNullPointerException() {
+        CommandRegistry registry = new CommandRegistry();
+        assertThrows(NullPointerException.class, () -> registry.register(null, arguments -> new ListCommand()));
+        assertThrows(NullPointerException.class, () -> registry.register("ls", null));
+    }
+}
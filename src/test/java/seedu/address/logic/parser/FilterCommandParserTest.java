@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+
+public class FilterCommandParserTest {
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_preamblePresent_throwsParseException() {
+        assertParseFailure(parser, " chronic t/allergy",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, " not/chronic*", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new TagFilter(Set.of(new Tag("chronic")),
+                Set.of(new Tag("allergy"), new Tag("elderly")), Set.of(new Tag("discharged"))));
+        assertParseSuccess(parser, " t/chronic any/allergy any/elderly not/discharged", expectedFilterCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n any/elderly \t t/chronic  not/discharged any/allergy \t",
+                expectedFilterCommand);
+
+        // only excluded tags
+        assertParseSuccess(parser, " not/discharged",
+                new FilterCommand(new TagFilter(Set.of(), Set.of(), Set.of(new Tag("discharged")))));
+    }
+
+}
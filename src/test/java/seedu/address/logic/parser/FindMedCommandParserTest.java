@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindMedCommand;
+import seedu.address.model.medicine.Medicine;
+
+public class FindMedCommandParserTest {
+
+    private FindMedCommandParser parser = new FindMedCommandParser();
+
+    @Test
+    public void parse_noMedicine_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMedCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_preamblePresent_throwsParseException() {
+        assertParseFailure(parser, " Aspirin med/Aspirin",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMedCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidMedicine_throwsParseException() {
+        assertParseFailure(parser, " med/Aspirin*", Medicine.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindMedCommand() {
+        FindMedCommand expectedFindMedCommand =
+                new FindMedCommand(Set.of(new Medicine("Aspirin"), new Medicine("Vitamin C")));
+        assertParseSuccess(parser, " med/Aspirin med/Vitamin C", expectedFindMedCommand);
+
+        // multiple whitespaces around medicines
+        assertParseSuccess(parser, " med/  Aspirin \t med/Vitamin C  ", expectedFindMedCommand);
+    }
+
+}
@@ -0,0 +1,54 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookChangeTest {
+
+    @Test
+    public void getChangesUntil_changesMade_changesInOrder() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookChange start = addressBook.getLastChange();
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        addressBook.removePerson(BENSON);
+        addressBook.resetData(new AddressBook());
+
+        List<AddressBookChange> changes = start.getChangesUntil(addressBook.getLastChange(), 10).get();
+        List<AddressBookChange.Kind> kinds = changes.stream().map(AddressBookChange::getKind)
+                .collect(Collectors.toList());
+        assertEquals(List.of(AddressBookChange.Kind.ADD, AddressBookChange.Kind.SET, AddressBookChange.Kind.REMOVE,
+                AddressBookChange.Kind.CLEAR), kinds);
+        assertEquals(HOON, changes.get(0).getPerson());
+        assertEquals(ALICE, changes.get(1).getTarget());
+        assertEquals(BENSON, changes.get(2).getTarget());
+
+        assertEquals(List.of(), addressBook.getLastChange().getChangesUntil(addressBook.getLastChange(), 0).get());
+        assertFalse(start.getChangesUntil(addressBook.getLastChange(), 3).isPresent());
+    }
+
+    @Test
+    public void getChangesUntil_copyAndOriginalBothChanged_onlyFirstFollowed() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook copy = new AddressBook(original);
+        AddressBookChange start = original.getLastChange();
+        assertEquals(start, copy.getLastChange());
+
+        copy.addPerson(HOON);
+        original.removePerson(ALICE);
+
+        assertEquals(1, start.getChangesUntil(copy.getLastChange(), 10).get().size());
+        assertFalse(start.getChangesUntil(original.getLastChange(), 10).isPresent());
+    }
+}
@@ -7,12 +7,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +22,8 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -54,6 +58,78 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_afterEachModification_incremented() {
+        long version = addressBook.getVersion();
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+        version = addressBook.getVersion();
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getVersion() > version);
+        version = addressBook.getVersion();
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getVersion() > version);
+        version = addressBook.getVersion();
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+        version = addressBook.getVersion();
+
+        // queries do not modify the address book
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonsWithNameKeywords(Arrays.asList("Alice"));
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getPersonsWithNameKeywords_keywordsInDifferentCase_returnsMatchingPersons() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithNameKeywords(Arrays.asList("aLiCe", "Bob")));
+    }
+
+    @Test
+    public void getPersonsWithNameKeywords_afterEditAndRemove_reflectsChanges() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        addressBook.removePerson(BENSON);
+        assertTrue(addressBook.getPersonsWithNameKeywords(Arrays.asList("alice", "benson")).isEmpty());
+        assertEquals(Set.of(renamedAlice), addressBook.getPersonsWithNameKeywords(Arrays.asList("pauline")));
+    }
+
+    @Test
+    public void getPersonsWithNameKeywords_modifiedAfterFirstQuery_reflectsChanges() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithNameKeywords(Arrays.asList("alice")));
+
+        addressBook.addPerson(BENSON);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertTrue(addressBook.getPersonsWithNameKeywords(Arrays.asList("alice")).isEmpty());
+        assertEquals(Set.of(renamedAlice, BENSON),
+                addressBook.getPersonsWithNameKeywords(Arrays.asList("pauline", "benson")));
+
+        addressBook.setPersons(List.of(ALICE));
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithNameKeywords(Arrays.asList("alice", "benson")));
+    }
+
+    @Test
+    public void buildIndexes_modifiedAfterwards_reflectsChanges() {
+        addressBook.addPerson(ALICE);
+        addressBook.buildIndexes();
+
+        addressBook.addPerson(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), addressBook.getPersonsWithNameKeywords(Arrays.asList("alice", "benson")));
+        assertEquals(Set.of(ALICE, BENSON), addressBook.getPersonsMatchingTags(
+                new TagFilter(Set.of(new Tag("friends")), Set.of(), Set.of())));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -94,6 +170,7 @@ public class AddressBookTest {
      */
     private static class AddressBookStub implements ReadOnlyAddressBook {
         private final ObservableList<Person> persons = FXCollections.observableArrayList();
+        private final AddressBookChange lastChange = AddressBookChange.start();
 
         AddressBookStub(Collection<Person> persons) {
             this.persons.setAll(persons);
@@ -103,6 +180,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public AddressBookChange getLastChange() {
+            return lastChange;
+        }
     }
 
 }
@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.Durability;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares loading the model's address book from a JSON data file, as done at startup, with every person held in
+ * full, and with each person holding only its name until its other fields are first needed. Each way is timed over
+ * several rounds after a warm-up round, and the heap the loaded address book takes is measured after a garbage
+ * collection. The time taken to then show a screenful of persons is also measured, as that is when the fields of the
+ * lazily loaded persons are read from the file and validated.
+ *
+ * Run with {@code gradlew modelLoadBenchmark -Pfile=FILE [-Prounds=ROUNDS]}.
+ */
+public class ModelLoadBenchmark {
+
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int PERSONS_SHOWN = 50;
+
+    /**
+     * Loads the JSON data file given as the first argument in each way, as many times as the optional second argument
+     * says, and prints the average time taken and the heap used by each.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: ModelLoadBenchmark FILE [ROUNDS]");
+            System.exit(1);
+        }
+        Path file = Paths.get(args[0]);
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+        System.out.println("File: " + file + ", rounds: " + rounds);
+
+        for (boolean isLazy : new boolean[] {false, true}) {
+            load(file, isLazy);
+            long loadNanos = 0;
+            long showNanos = 0;
+            long heapBytes = 0;
+            int size = 0;
+            for (int i = 0; i < rounds; i++) {
+                long usedBefore = getUsedHeap();
+                long startNanos = System.nanoTime();
+                AddressBook addressBook = load(file, isLazy);
+                loadNanos += System.nanoTime() - startNanos;
+                heapBytes = getUsedHeap() - usedBefore;
+
+                startNanos = System.nanoTime();
+                show(addressBook.getPersonList());
+                showNanos += System.nanoTime() - startNanos;
+                size = addressBook.getPersonList().size();
+            }
+            System.out.println(String.format("%-6s %d persons: load %6d ms  +%d MB heap, show %d persons %d us",
+                    isLazy ? "LAZY" : "EAGER", size, loadNanos / rounds / 1_000_000, heapBytes >> 20, PERSONS_SHOWN,
+                    showNanos / rounds / 1_000));
+        }
+    }
+
+    /**
+     * Loads the address book in {@code file} as the app does, with lazily loaded persons if {@code isLazy}.
+     */
+    private static AddressBook load(Path file, boolean isLazy) throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(file, Config.DEFAULT_PRETTY_PRINT_MAX_PERSONS,
+                Config.DEFAULT_PARALLEL_LOAD_ENABLED, isLazy, Durability.NONE);
+        return new AddressBook(storage.readAddressBook().orElseThrow());
+    }
+
+    /**
+     * Reads every field of the first persons in {@code persons}, as the person list panel does when it is shown.
+     */
+    private static void show(List<Person> persons) {
+        for (Person person : persons.subList(0, Math.min(PERSONS_SHOWN, persons.size()))) {
+            person.getPhone();
+            person.getEmail();
+            person.getAddress();
+            person.getDoctor();
+            person.getTags();
+            person.getMedicines();
+        }
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
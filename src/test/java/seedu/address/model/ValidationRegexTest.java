@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Doctor;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Checks that the hand-written validators of the fields accept exactly the values matched by their published
+ * {@code VALIDATION_REGEX}, so that the documented format and the checked format cannot drift apart.
+ */
+public class ValidationRegexTest {
+
+    /** Characters from each class the regexes tell apart, including non-ASCII letters, digits and spaces. */
+    private static final String ALPHABET = "aZ09 -_@.\t\u00e9\u0661\u00a0";
+    private static final int MAX_LENGTH = 3;
+
+    @Test
+    public void isValidName_sameAsValidationRegex() {
+        assertSameAsRegex(Name.VALIDATION_REGEX, Name::isValidName);
+    }
+
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        assertSameAsRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone);
+    }
+
+    @Test
+    public void isValidDoctor_sameAsValidationRegex() {
+        assertSameAsRegex(Doctor.VALIDATION_REGEX, Doctor::isValidDoctor);
+    }
+
+    @Test
+    public void isValidTagName_sameAsValidationRegex() {
+        assertSameAsRegex(Tag.VALIDATION_REGEX, Tag::isValidTagName);
+    }
+
+    @Test
+    public void isValidMedicineName_sameAsValidationRegex() {
+        assertSameAsRegex(Medicine.VALIDATION_REGEX, Medicine::isValidMedicineName);
+    }
+
+    /**
+     * Asserts that {@code validator} agrees with {@code regex} on every string of up to {@value #MAX_LENGTH}
+     * characters from {@link #ALPHABET}, and on a few longer values.
+     */
+    private static void assertSameAsRegex(String regex, Predicate<String> validator) {
+        Pattern pattern = Pattern.compile(regex);
+        List<String> values = new ArrayList<>(List.of("Peter the 2nd", "ward-12", "912345678", " leading",
+                "trailing ", "a\nb", "alex@example.com"));
+        addStrings("", values);
+        for (String value : values) {
+            assertEquals(pattern.matcher(value).matches(), validator.test(value), "\"" + value + "\"");
+        }
+    }
+
+    private static void addStrings(String prefix, List<String> values) {
+        values.add(prefix);
+        if (prefix.length() == MAX_LENGTH) {
+            return;
+        }
+        for (char c : ALPHABET.toCharArray()) {
+            addStrings(prefix + c, values);
+        }
+    }
+}
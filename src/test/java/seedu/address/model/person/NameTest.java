@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -38,6 +41,11 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void getSearchTokens() {
+        assertEquals(Arrays.asList("peter", "the", "2nd"), new Name("Peter  the 2ND").getSearchTokens());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
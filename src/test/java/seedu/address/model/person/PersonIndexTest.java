@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIndexTest {
+
+    private final PersonIndex<String> index = new PersonIndex<>(person -> person.getName().getSearchTokens());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonIndex<String>(null));
+    }
+
+    @Test
+    public void get_keyNotIndexed_returnsEmptySet() {
+        assertTrue(index.get("alice").isEmpty());
+    }
+
+    @Test
+    public void add_person_indexedUnderEachKey() {
+        index.add(ALICE);
+        assertEquals(Set.of(ALICE), index.get("alice"));
+        assertEquals(Set.of(ALICE), index.get("pauline"));
+    }
+
+    @Test
+    public void remove_person_noLongerIndexed() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+        assertTrue(index.get("alice").isEmpty());
+        assertEquals(Set.of(BENSON), index.get("benson"));
+    }
+
+    @Test
+    public void set_person_replacesKeys() {
+        index.add(ALICE);
+        index.set(ALICE, CARL);
+        assertTrue(index.get("alice").isEmpty());
+        assertEquals(Set.of(CARL), index.get("kurz"));
+    }
+
+    @Test
+    public void setAll_persons_replacesContents() {
+        index.add(ALICE);
+        index.setAll(Arrays.asList(BENSON, CARL));
+        assertTrue(index.get("alice").isEmpty());
+        assertEquals(Set.of(BENSON), index.get("meier"));
+    }
+
+    @Test
+    public void getAny_multipleKeys_returnsUnion() {
+        index.setAll(Arrays.asList(ALICE, BENSON, CARL));
+        Set<Person> matches = index.getAny(Arrays.asList("alice", "kurz", "unknown"));
+        assertEquals(2, matches.size());
+        assertTrue(matches.contains(ALICE));
+        assertTrue(matches.contains(CARL));
+    }
+
+    @Test
+    public void get_modifyResult_throwsUnsupportedOperationException() {
+        index.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> index.get("alice").clear());
+    }
+
+    @Test
+    public void getSizes_multipleKeys_returnsPersonCounts() {
+        index.setAll(Arrays.asList(ALICE, BENSON, CARL));
+        index.remove(CARL);
+        assertEquals(Map.of("alice", 1, "pauline", 1, "benson", 1, "meier", 1), index.getSizes());
+    }
+}
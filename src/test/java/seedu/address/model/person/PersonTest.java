@@ -12,6 +12,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -24,6 +26,25 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void lazyPerson_loadsFieldsOnFirstAccessOnly() {
+        AtomicInteger loads = new AtomicInteger();
+        Person lazyAlice = new Person(ALICE.getName(), () -> {
+            loads.incrementAndGet();
+            return new PersonBuilder(ALICE).build();
+        });
+
+        assertTrue(lazyAlice.isSamePerson(ALICE));
+        assertEquals(0, loads.get());
+
+        assertEquals(ALICE.getPhone(), lazyAlice.getPhone());
+        assertEquals(ALICE.getTags(), lazyAlice.getTags());
+        assertEquals(ALICE, lazyAlice);
+        assertEquals(ALICE.hashCode(), lazyAlice.hashCode());
+        assertEquals(ALICE.toString(), lazyAlice.toString());
+        assertEquals(1, loads.get());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
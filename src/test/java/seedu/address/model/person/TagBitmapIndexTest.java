@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getNumberedPerson;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFilter;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagBitmapIndexTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+    private static final Tag CHRONIC = new Tag("chronic");
+
+    private final TagBitmapIndex index = new TagBitmapIndex();
+
+    @Test
+    public void getMatching_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getMatching(null));
+    }
+
+    @Test
+    public void getMatching_emptyIndex_returnsEmptySet() {
+        assertTrue(index.getMatching(filter(Set.of(FRIENDS), Set.of(), Set.of())).isEmpty());
+    }
+
+    @Test
+    public void getMatching_requiredTags_returnsIntersection() {
+        index.setAll(getTypicalPersons());
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), index.getMatching(filter(Set.of(FRIENDS), Set.of(), Set.of())));
+        assertEquals(Set.of(BENSON), index.getMatching(filter(Set.of(FRIENDS, OWES_MONEY), Set.of(), Set.of())));
+        assertTrue(index.getMatching(filter(Set.of(FRIENDS, CHRONIC), Set.of(), Set.of())).isEmpty());
+    }
+
+    @Test
+    public void getMatching_anyTags_returnsUnion() {
+        index.setAll(getTypicalPersons());
+        assertEquals(Set.of(ALICE, BENSON, DANIEL),
+                index.getMatching(filter(Set.of(), Set.of(OWES_MONEY, FRIENDS, CHRONIC), Set.of())));
+    }
+
+    @Test
+    public void getMatching_excludedTags_returnsComplement() {
+        index.setAll(getTypicalPersons());
+        assertEquals(Set.of(ALICE, DANIEL), index.getMatching(filter(Set.of(FRIENDS), Set.of(), Set.of(OWES_MONEY))));
+
+        // only excluded tags -> every person without them
+        Set<Person> expected = getTypicalPersons().stream()
+                .filter(person -> !person.getTags().contains(FRIENDS))
+                .collect(Collectors.toSet());
+        assertEquals(expected, index.getMatching(filter(Set.of(), Set.of(), Set.of(FRIENDS))));
+    }
+
+    @Test
+    public void getMatching_afterRemoveAndSet_staysConsistent() {
+        index.setAll(getTypicalPersons());
+        index.remove(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withTags("friends", "chronic").build();
+        index.set(CARL, editedCarl);
+        Person newPerson = new PersonBuilder().withName("New Person").withTags("chronic").build();
+        index.add(newPerson);
+
+        assertEquals(Set.of(BENSON, editedCarl, DANIEL),
+                index.getMatching(filter(Set.of(FRIENDS), Set.of(), Set.of())));
+        assertEquals(Set.of(editedCarl, newPerson), index.getMatching(filter(Set.of(CHRONIC), Set.of(), Set.of())));
+        assertEquals(Set.of(newPerson), index.getMatching(filter(Set.of(), Set.of(CHRONIC), Set.of(FRIENDS))));
+    }
+
+    @Test
+    public void getMatching_mixedMutations_matchesPredicate() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        index.setAll(persons);
+        for (int i = 0; i < 20; i++) {
+            Person removed = persons.remove(i % persons.size());
+            index.remove(removed);
+            Person added = new PersonBuilder(getNumberedPerson(i))
+                    .withTags(i % 2 == 0 ? "friends" : "chronic", i % 3 == 0 ? "owesMoney" : "friends").build();
+            persons.add(added);
+            index.add(added);
+        }
+
+        for (TagFilter tagFilter : Arrays.asList(filter(Set.of(FRIENDS), Set.of(), Set.of()),
+                filter(Set.of(), Set.of(CHRONIC, OWES_MONEY), Set.of(FRIENDS)),
+                filter(Set.of(FRIENDS), Set.of(OWES_MONEY), Set.of(CHRONIC)))) {
+            Set<Person> expected = persons.stream()
+                    .filter(person -> matches(tagFilter, person.getTags()))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, index.getMatching(tagFilter));
+        }
+    }
+
+    /**
+     * Returns true if {@code tags} satisfies {@code filter}, checked tag by tag.
+     */
+    private static boolean matches(TagFilter filter, Set<Tag> tags) {
+        return tags.containsAll(filter.requiredTags)
+                && (filter.anyTags.isEmpty() || filter.anyTags.stream().anyMatch(tags::contains))
+                && filter.excludedTags.stream().noneMatch(tags::contains);
+    }
+
+    private static TagFilter filter(Set<Tag> requiredTags, Set<Tag> anyTags, Set<Tag> excludedTags) {
+        return new TagFilter(requiredTags, anyTags, excludedTags);
+    }
+}
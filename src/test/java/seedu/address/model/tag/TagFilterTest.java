@@ -0,0 +1,36 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagFilterTest {
+
+    private static final Tag ALLERGY = new Tag("allergy");
+    private static final Tag CHRONIC = new Tag("chronic");
+    private static final Tag ELDERLY = new Tag("elderly");
+
+    @Test
+    public void equals() {
+        TagFilter filter = new TagFilter(Set.of(CHRONIC), Set.of(ALLERGY), Set.of(ELDERLY));
+
+        // same values -> returns true
+        assertTrue(filter.equals(new TagFilter(Set.of(CHRONIC), Set.of(ALLERGY), Set.of(ELDERLY))));
+
+        // same object -> returns true
+        assertTrue(filter.equals(filter));
+
+        // null -> returns false
+        assertFalse(filter.equals(null));
+
+        // different types -> returns false
+        assertFalse(filter.equals(5.0f));
+
+        // tags in a different role -> returns false
+        assertFalse(filter.equals(new TagFilter(Set.of(ALLERGY), Set.of(CHRONIC), Set.of(ELDERLY))));
+        assertFalse(filter.equals(new TagFilter(Set.of(CHRONIC), Set.of(ELDERLY), Set.of(ALLERGY))));
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.Config;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        assertFalse(AddressBookFormatConverter.convert(testFolder.resolve("missing.json"),
+                testFolder.resolve("target.bin"), AddressBookFormat.BINARY, new Config()));
+        assertFalse(Files.exists(testFolder.resolve("target.bin")));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_journalIncluded() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(jsonFilePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(CARL);
+        jsonStorage.saveAddressBook(original);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(jsonFilePath)));
+
+        Path binaryFilePath = testFolder.resolve("addressBook.bin");
+        assertTrue(AddressBookFormatConverter.convert(jsonFilePath, binaryFilePath, AddressBookFormat.BINARY,
+                new Config()));
+        assertEquals(AddressBookFormat.BINARY, AddressBookFormatConverter.detectFormat(binaryFilePath));
+        assertEquals(original, new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get());
+
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        assertTrue(AddressBookFormatConverter.convert(binaryFilePath, convertedFilePath, AddressBookFormat.JSON,
+                new Config()));
+        assertEquals(AddressBookFormat.JSON, AddressBookFormatConverter.detectFormat(convertedFilePath));
+        assertEquals(original, new JsonAddressBookStorage(convertedFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void convert_inPlace_journalFolded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookFormatConverter.convert(filePath, filePath, AddressBookFormat.BINARY, new Config()));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void isConversionNeeded_journalNotKept_journalFolded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonStorage.saveAddressBook(original);
+
+        Config journaledConfig = new Config();
+        journaledConfig.setJournalEnabled(true);
+        assertFalse(AddressBookFormatConverter.isConversionNeeded(filePath, AddressBookFormat.JSON, journaledConfig));
+        assertTrue(AddressBookFormatConverter.isConversionNeeded(filePath, AddressBookFormat.JSON, new Config()));
+        assertTrue(AddressBookFormatConverter.convert(filePath, filePath, AddressBookFormat.JSON, new Config()));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void detectFormat_compressedBinary_binary() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Config config = new Config();
+        config.setCompressionLevel(6);
+        AddressBookFormatConverter.createStorage(filePath, AddressBookFormat.BINARY, config)
+                .saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(AddressBookFormat.BINARY, AddressBookFormatConverter.detectFormat(filePath));
+    }
+
+    @Test
+    public void convert_toShardedAndBack_oldFilesRemoved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonStorage.saveAddressBook(original);
+
+        Config shardedConfig = new Config();
+        shardedConfig.setShardCount(3);
+        assertTrue(AddressBookFormatConverter.isConversionNeeded(filePath, AddressBookFormat.BINARY, shardedConfig));
+        assertTrue(AddressBookFormatConverter.convert(filePath, filePath, AddressBookFormat.BINARY, shardedConfig));
+        assertFalse(AddressBookFormatConverter.isConversionNeeded(filePath, AddressBookFormat.BINARY, shardedConfig));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(AddressBookFormat.BINARY, AddressBookFormatConverter.detectFormat(filePath));
+        List<Path> shardFilePaths = ShardedAddressBookStorage.getShardFilePaths(filePath);
+        assertEquals(original, new AddressBook(AddressBookFormatConverter.createStorage(filePath,
+                AddressBookFormat.BINARY, shardedConfig).readAddressBook().get()));
+
+        Config config = new Config();
+        assertTrue(AddressBookFormatConverter.isConversionNeeded(filePath, AddressBookFormat.JSON, config));
+        assertTrue(AddressBookFormatConverter.convert(filePath, filePath, AddressBookFormat.JSON, config));
+        assertFalse(ShardedAddressBookStorage.isManifestFile(filePath));
+        for (Path shardFilePath : shardFilePaths) {
+            assertFalse(Files.exists(shardFilePath));
+        }
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncAddressBookSaver(null));
+    }
+
+    @Test
+    public void save_nullAddressBook_throwsNullPointerException() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")));
+        assertThrows(NullPointerException.class, () -> saver.save(null));
+    }
+
+    @Test
+    public void save_thenFlush_addressBookWritten() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook original = getTypicalAddressBook();
+
+        saver.save(original);
+        saver.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_whileWriterBusy_onlyLatestWritten() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstSave = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> savedAddressBooks = new CopyOnWriteArrayList<>();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                savedAddressBooks.add(addressBook);
+                firstSaveStarted.countDown();
+                try {
+                    releaseFirstSave.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBook();
+        second.addPerson(ALICE);
+        AddressBook third = new AddressBook();
+        third.addPerson(BENSON);
+
+        saver.save(first);
+        assertTrue(firstSaveStarted.await(10, TimeUnit.SECONDS));
+        saver.save(second);
+        saver.save(third);
+        releaseFirstSave.countDown();
+        saver.flush();
+
+        assertEquals(List.of(first, third), savedAddressBooks);
+    }
+
+    @Test
+    public void save_storageThrowsIoException_failureHandlerCalled() {
+        IOException exception = new IOException("dummy IO exception");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        };
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.save(new AddressBook());
+        saver.flush();
+
+        assertEquals(List.of(exception), failures);
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        // empty address book
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_longAndNonAsciiValues_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withAddress("Jurong é " + "x".repeat(200_000)).build());
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsIoException() throws Exception {
+        byte[] bytes = write(getTypicalAddressBook());
+        bytes[4] = BinaryAddressBookStorage.FORMAT_VERSION + 1;
+        assertThrows(IOException.class, String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookStorage.FORMAT_VERSION + 1), () -> read(bytes));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        byte[] bytes = write(getTypicalAddressBook());
+        assertThrows(IOException.class, () -> read(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+
+    @Test
+    public void read_trailingBytes_throwsIoException() throws Exception {
+        byte[] bytes = write(getTypicalAddressBook());
+        assertThrows(IOException.class, BinaryAddressBookStorage.MESSAGE_TRAILING_DATA, () ->
+                read(Arrays.copyOf(bytes, bytes.length + 1)));
+    }
+
+    @Test
+    public void read_corruptedLength_throwsIoException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withPhone("123456").build());
+        String encoded = new String(write(addressBook), "ISO-8859-1");
+
+        // replace the length of the phone number with Integer.MAX_VALUE
+        String corrupted = encoded.replace("\u0006123456", "\u00ff\u00ff\u00ff\u00ff\u0007123456");
+        assertThrows(IOException.class, BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE, () ->
+                read(corrupted.getBytes("ISO-8859-1")));
+
+        // a length within the limit but past the end of the file
+        String truncated = encoded.replace("\u0006123456", "\u0080\u0080\u0001123456");
+        assertThrows(IOException.class, () -> read(truncated.getBytes("ISO-8859-1")));
+    }
+
+    @Test
+    public void write_valueTooLong_throwsIoException() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withAddress("x".repeat(BinaryAddressBookStorage.MAX_STRING_BYTES + 1))
+                .build());
+        assertThrows(IOException.class, String.format(BinaryAddressBookStorage.MESSAGE_VALUE_TOO_LONG,
+                BinaryAddressBookStorage.MAX_STRING_BYTES), () -> write(addressBook));
+    }
+
+    @Test
+    public void read_invalidPerson_throwsIllegalValueException() throws Exception {
+        Person person = new PersonBuilder().withPhone("123456").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        byte[] bytes = write(addressBook);
+
+        // turn the phone number into an invalid one of the same length
+        String encoded = new String(bytes, "ISO-8859-1").replace("123456", "12a456");
+        IllegalValueException thrown = org.junit.jupiter.api.Assertions.assertThrows(IllegalValueException.class, () ->
+                read(encoded.getBytes("ISO-8859-1")));
+        assertEquals(Phone.MESSAGE_CONSTRAINTS, thrown.getMessage());
+        assertTrue(thrown.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        ReadOnlyAddressBook duplicates = new AddressBookSnapshot(List.of(ALICE, new PersonBuilder(ALICE).build()));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                read(write(duplicates)));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+        assertFalse(Files.exists(testFolder.resolve("addressBook.bin")));
+    }
+
+    private static byte[] write(ReadOnlyAddressBook addressBook) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.write(addressBook, out);
+        return out.toByteArray();
+    }
+
+    private static AddressBook read(byte[] bytes) throws Exception {
+        return BinaryAddressBookStorage.read(new ByteArrayInputStream(bytes));
+    }
+}
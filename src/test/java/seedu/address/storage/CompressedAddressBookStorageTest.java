@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.Durability;
+import seedu.address.model.AddressBook;
+
+public class CompressedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidLevel_throwsIllegalArgumentException() {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertThrows(IllegalArgumentException.class, () ->
+                new CompressedAddressBookStorage(jsonStorage, -1, Durability.NONE));
+        assertThrows(IllegalArgumentException.class, () ->
+                new CompressedAddressBookStorage(jsonStorage, 10, Durability.NONE));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressedJson_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        CompressedAddressBookStorage storage = new CompressedAddressBookStorage(
+                new JsonAddressBookStorage(filePath), 6, Durability.NONE);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(isGzipFile(filePath));
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressedBinary_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        CompressedAddressBookStorage storage = new CompressedAddressBookStorage(
+                new BinaryAddressBookStorage(filePath), 1, Durability.NONE);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(isGzipFile(filePath));
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_compressed_smallerThanUncompressed() throws Exception {
+        Path plainFilePath = testFolder.resolve("plain.json");
+        Path compressedFilePath = testFolder.resolve("compressed.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(plainFilePath).saveAddressBook(original);
+        new CompressedAddressBookStorage(new JsonAddressBookStorage(compressedFilePath), 9, Durability.NONE)
+                .saveAddressBook(original);
+
+        assertTrue(Files.size(compressedFilePath) < Files.size(plainFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_noCompression_writesPlainFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new CompressedAddressBookStorage(new JsonAddressBookStorage(filePath),
+                CompressedAddressBookStorage.NO_COMPRESSION, Durability.NONE).saveAddressBook(original);
+
+        assertFalse(isGzipFile(filePath));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_uncompressedFile_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        CompressedAddressBookStorage storage = new CompressedAddressBookStorage(
+                new JsonAddressBookStorage(filePath), 6, Durability.NONE);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        CompressedAddressBookStorage storage = new CompressedAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("missing.json")), 6, Durability.NONE);
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    private static boolean isGzipFile(Path filePath) throws Exception {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            new GZIPInputStream(in);
+            return true;
+        } catch (ZipException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class JournalCompactorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalCompactor(null, 1, Duration.ZERO));
+    }
+
+    @Test
+    public void start_journalTooLarge_compactedInBackground() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JournalCompactor compactor = new JournalCompactor(storage, 1, Duration.ofHours(1), Duration.ofMillis(10));
+        compactor.start();
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        for (int i = 0; i < 500 && Files.exists(journalFilePath); i++) {
+            Thread.sleep(10);
+        }
+        compactor.stop();
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
@@ -0,0 +1,386 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        // add, edit, delete
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+        original.removePerson(CARL);
+        storage.saveAddressBook(original);
+
+        // unchanged -> nothing appended
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, getJournalLines(filePath).size());
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_renamedPerson_orderPreserved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alicia Pauline").build());
+        storage.saveAddressBook(original);
+
+        assertEquals(1, getJournalLines(filePath).size());
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_clear_singleEntry() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.resetData(new AddressBook());
+        storage.saveAddressBook(original);
+
+        assertEquals(1, getJournalLines(filePath).size());
+        assertEquals(new AddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangesAppended() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(1, getJournalLines(filePath).size());
+        assertEquals(readBack, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_coalescedChanges_replayedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Random random = new Random(42);
+        int nextId = 0;
+        for (int save = 0; save < 50; save++) {
+            // several commands between saves, as when saving in the background
+            for (int command = random.nextInt(4); command >= 0; command--) {
+                List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+                int choice = random.nextInt(3);
+                if (choice == 0 || persons.isEmpty()) {
+                    addressBook.addPerson(new PersonBuilder().withName("Patient " + nextId++).build());
+                } else if (choice == 1) {
+                    Person target = persons.get(random.nextInt(persons.size()));
+                    addressBook.setPerson(target, new PersonBuilder(target).withName("Patient " + nextId++).build());
+                } else {
+                    addressBook.removePerson(persons.get(random.nextInt(persons.size())));
+                }
+            }
+            storage.saveAddressBook(addressBook);
+            assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.setPersons(List.of(ALICE, BENSON, CARL));
+        storage.saveAddressBook(original);
+
+        original.setPersons(List.of(CARL, BENSON, ALICE));
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherAddressBook_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // its changes do not follow on from those of the address book saved
+        AddressBook other = getTypicalAddressBook();
+        other.addPerson(HOON);
+        storage.saveAddressBook(other);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(other, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_differentFilePath_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path otherFilePath = testFolder.resolve("otherAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_skipped() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"op\":\"add\",\"person\":{\"na".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterIncompleteLastEntry_newEntriesKept() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalFilePath,
+                "{\"op\":\"add\",\"person\":{\"na".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(filePath);
+        AddressBook recovered = new AddressBook(restarted.readAddressBook().get());
+        assertEquals(original, recovered);
+        recovered.addPerson(IDA);
+        recovered.removePerson(CARL);
+        restarted.saveAddressBook(recovered);
+
+        JournaledAddressBookStorage restartedAgain = new JournaledAddressBookStorage(filePath);
+        assertEquals(recovered, restartedAgain.readAddressBook().get());
+        assertEquals(3, restartedAgain.getLastReplayLength());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"op\":\"del\",\"target\":\"R@chel\"}\n{\"op\":\"clear\"}\n");
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalReplayedTwice_sameResult() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alicia Pauline").build());
+        original.removePerson(CARL);
+        storage.saveAddressBook(original);
+
+        AddressBook replayed = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage.replayJournal(journalFilePath, replayed);
+        assertEquals(original, replayed);
+
+        JournaledAddressBookStorage.replayJournal(journalFilePath, replayed);
+        assertEquals(original, replayed);
+        assertTrue(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_journal_replayLengthRecorded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(CARL);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage reader = new JournaledAddressBookStorage(filePath);
+        reader.readAddressBook();
+        assertEquals(2, reader.getLastReplayLength());
+    }
+
+    @Test
+    public void compact_noJournal_notCompacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        assertFalse(storage.compact());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(storage.compact());
+        assertFalse(storage.getLastCompactionDuration().isPresent());
+    }
+
+    @Test
+    public void compact_journal_foldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(CARL);
+        storage.saveAddressBook(original);
+
+        assertTrue(storage.compact());
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertTrue(storage.getLastCompactionDuration().isPresent());
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        // later changes are journaled against the compacted snapshot
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(1, getJournalLines(filePath).size());
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_compactionStoppedAfterSnapshotMoved_orderPreserved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        // replaying these again over the compacted snapshot would move the renamed person to the end
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alicia Pauline").build());
+        storage.saveAddressBook(original);
+        original.addPerson(new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+        byte[] oldJournal = Files.readAllBytes(journalFilePath);
+
+        assertTrue(storage.compact());
+        // as left behind if the app stopped right after moving the new snapshot into place
+        Files.write(journalFilePath, oldJournal);
+        Files.write(JournaledAddressBookStorage.getNextJournalFilePath(filePath), new byte[0]);
+
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(JournaledAddressBookStorage.getNextJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_compactionStoppedBeforeSnapshotMoved_oldJournalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(CARL);
+        storage.saveAddressBook(original);
+
+        // as left behind if the app stopped right before moving the new snapshot into place
+        new JsonAddressBookStorage(JournaledAddressBookStorage.getCompactionFilePath(filePath))
+                .saveAddressBook(original);
+        Files.write(JournaledAddressBookStorage.getNextJournalFilePath(filePath), new byte[0]);
+
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(2, getJournalLines(filePath).size());
+        assertFalse(Files.exists(JournaledAddressBookStorage.getNextJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void compactIfNeeded_thresholds() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // journal small and recent -> not compacted
+        assertFalse(storage.compactIfNeeded(Long.MAX_VALUE, Duration.ofHours(1)));
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        // journal too large -> compacted
+        assertTrue(storage.compactIfNeeded(1, Duration.ofHours(1)));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        // journal too old -> compacted
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertTrue(storage.compactIfNeeded(Long.MAX_VALUE, Duration.ZERO));
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    private static List<String> getJournalLines(Path filePath) throws Exception {
+        return Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath));
+    }
+}
@@ -6,16 +6,23 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getNumberedAddressBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.Config;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.Durability;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +93,72 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_smallAddressBook_prettyPrinted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        int size = original.getPersonList().size();
+        new JsonAddressBookStorage(filePath, size, true, false, Durability.NONE).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_largeAddressBook_compact() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        int size = original.getPersonList().size();
+        new JsonAddressBookStorage(filePath, size - 1, true, false, Durability.NONE).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(original)),
+                Files.readString(filePath));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_lazyLoad_sameAsEager() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getNumberedAddressBook(5000);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, readLazily(filePath));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "Persons are always loaded in full on Windows")
+    public void readAddressBook_lazyLoadThenFileSaved_loadsFieldsFromFileRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = readLazily(filePath);
+        jsonAddressBookStorage.saveAddressBook(getNumberedAddressBook(3));
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "Persons are always loaded in full on Windows")
+    public void readAddressBook_lazyLoadInvalidField_throwsOnFirstUse() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        String json = JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(getTypicalAddressBook()));
+        Files.writeString(filePath, json.replace("\"94351253\"", "\"phone!\""));
+
+        ReadOnlyAddressBook readBack = readLazily(filePath);
+        assertEquals(ALICE.getName(), readBack.getPersonList().get(0).getName());
+        assertThrows(IllegalStateException.class, () -> readBack.getPersonList().get(0).getPhone());
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+
+        Files.writeString(filePath, json.replace("\"Alice Pauline\"", "\"Alice!\""));
+        assertThrows(DataLoadingException.class, () -> readLazily(filePath));
+    }
+
+    private static ReadOnlyAddressBook readLazily(Path filePath) throws Exception {
+        return new JsonAddressBookStorage(filePath, Config.DEFAULT_PRETTY_PRINT_MAX_PERSONS, false, true,
+                Durability.NONE).readAddressBook().get();
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -2,15 +2,25 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getNumberedAddressBook;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +29,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_THEN_INVALID_PERSON_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateThenInvalidPersonAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +56,98 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), readModelType(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readModelType(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readModelType(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelTypeInParallel_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), readModelTypeInParallel(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void readModelTypeInParallel_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readModelTypeInParallel(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelTypeInParallel_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readModelTypeInParallel(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelTypeInParallel_manyPersons_sameAsSequential() throws Exception {
+        String json = toJson(getNumberedAddressBook(5000));
+        assertEquals(readModelType(json, false), readModelType(json, true));
+    }
+
+    @Test
+    public void readModelType_duplicateThenInvalidPersonFile_sameErrorInParallel() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readModelType(DUPLICATE_THEN_INVALID_PERSON_FILE));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readModelTypeInParallel(DUPLICATE_THEN_INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readModelTypeInParallel_errorsInDifferentChunks_firstErrorInFile() throws Exception {
+        String json = toJson(getNumberedAddressBook(5000));
+        String duplicateFirst = json.replace("\"Person 100\"", "\"Person 101\"")
+                .replace("\"Person 4500\"", "\"Person 4500!\"");
+        String invalidFirst = json.replace("\"Person 100\"", "\"Person 100!\"")
+                .replace("\"Person 4500\"", "\"Person 4501\"");
+        for (boolean isParallel : new boolean[] {false, true, true, true}) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    readModelType(duplicateFirst, isParallel));
+            assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                    readModelType(invalidFirst, isParallel));
+        }
+    }
+
+    @Test
+    public void readModelType_notAnObject_throwsJsonParseException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream("[]".getBytes()))) {
+            assertThrows(JsonParseException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    private static AddressBook readModelType(Path filePath) throws Exception {
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return JsonSerializableAddressBook.readModelType(parser);
+        }
+    }
+
+    private static AddressBook readModelTypeInParallel(Path filePath) throws Exception {
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return JsonSerializableAddressBook.readModelType(parser, true, null);
+        }
+    }
+
+    private static AddressBook readModelType(String json, boolean isParallel) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(json.getBytes()))) {
+            return JsonSerializableAddressBook.readModelType(parser, isParallel, null);
+        }
+    }
+
+    private static String toJson(AddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, false)) {
+            JsonSerializableAddressBook.writeModelType(addressBook, generator);
+        }
+        return out.toString();
+    }
+
 }
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import seedu.address.commons.util.Durability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the cost of saving the address book at each {@link Durability} level: a full atomic save through
+ * {@link JsonAddressBookStorage}, and a save of a one-person edit through {@link JournaledAddressBookStorage}, which
+ * appends to the journal. Each kind of save is timed over several rounds after as many untimed warm-up rounds, and
+ * the median is printed.
+ *
+ * The cost of forcing data to disk depends on the disk and file system, so run it in a directory on the disk the data
+ * file is kept on. Run with {@code gradlew saveBenchmark -Pdir=DIRECTORY [-Ppersons=PERSONS] [-Prounds=ROUNDS]}.
+ */
+public class SaveBenchmark {
+
+    private static final int DEFAULT_PERSONS = 1000;
+    private static final int DEFAULT_ROUNDS = 20;
+
+    /**
+     * Saves an address book of as many persons as the optional second argument says in the directory given as the
+     * first argument, at each durability level, as many times as the optional third argument says, and prints the
+     * median time taken by each kind of save.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SaveBenchmark DIRECTORY [PERSONS] [ROUNDS]");
+            System.exit(1);
+        }
+        Path directory = Files.createDirectories(Paths.get(args[0]));
+        int personCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PERSONS;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ROUNDS;
+        System.out.println("Directory: " + directory + ", persons: " + personCount + ", rounds: " + rounds);
+
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Patient " + i)
+                    .withPhone(String.valueOf(80_000_000 + i)).withTags("ward" + (i % 10)).build());
+        }
+
+        for (Durability durability : Durability.values()) {
+            Path fullSaveFile = directory.resolve("fullSave-" + durability + ".json");
+            Path journaledSaveFile = directory.resolve("journaledSave-" + durability + ".json");
+            try {
+                double fullSaveMillis = timeFullSaves(fullSaveFile, addressBook, durability, rounds);
+                double journaledSaveMillis = timeJournaledSaves(journaledSaveFile, addressBook, durability, rounds);
+                System.out.println(String.format("%-18s full save %9.3f ms  journaled save %7.3f ms",
+                        durability, fullSaveMillis, journaledSaveMillis));
+            } finally {
+                Files.deleteIfExists(fullSaveFile);
+                Files.deleteIfExists(journaledSaveFile);
+                Files.deleteIfExists(JournaledAddressBookStorage.getJournalFilePath(journaledSaveFile));
+            }
+        }
+    }
+
+    private static double timeFullSaves(Path file, AddressBook addressBook, Durability durability, int rounds)
+            throws IOException {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(file, 0, false, false, durability);
+        long[] nanos = new long[rounds];
+        for (int i = -rounds; i < rounds; i++) {
+            long startNanos = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            if (i >= 0) {
+                nanos[i] = System.nanoTime() - startNanos;
+            }
+        }
+        return medianMillis(nanos);
+    }
+
+    /**
+     * Saves {@code addressBook} as a snapshot, then times saving it again after each edit of the phone of its first
+     * person.
+     */
+    private static double timeJournaledSaves(Path file, AddressBook addressBook, Durability durability, int rounds)
+            throws IOException {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(file, 0, false, false, durability), durability);
+        AddressBook editedAddressBook = new AddressBook(addressBook);
+        storage.saveAddressBook(editedAddressBook);
+        storage.compact();
+
+        Person person = editedAddressBook.getPersonList().get(0);
+        long[] nanos = new long[rounds];
+        for (int i = -rounds; i < rounds; i++) {
+            Person editedPerson = new PersonBuilder(person).withPhone(String.valueOf(90_000_000 + rounds + i)).build();
+            editedAddressBook.setPerson(person, editedPerson);
+            person = editedPerson;
+
+            long startNanos = System.nanoTime();
+            storage.saveAddressBook(editedAddressBook);
+            if (i >= 0) {
+                nanos[i] = System.nanoTime() - startNanos;
+            }
+        }
+        return medianMillis(nanos);
+    }
+
+    private static double medianMillis(long[] nanos) {
+        long[] sortedNanos = nanos.clone();
+        Arrays.sort(sortedNanos);
+        return sortedNanos[sortedNanos.length / 2] / 1e6;
+    }
+}
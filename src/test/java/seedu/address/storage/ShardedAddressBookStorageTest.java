@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getNumberedAddressBook;
+import static seedu.address.testutil.TypicalPersons.getNumberedPerson;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.Durability;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidShardCount_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("addressBook.json");
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedAddressBookStorage(filePath, 0, JsonAddressBookStorage::new, Durability.NONE));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedAddressBookStorage(filePath,
+                ShardedAddressBookStorage.MAX_SHARD_COUNT + 1, JsonAddressBookStorage::new, Durability.NONE));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("missing.json"), SHARD_COUNT).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        ShardedAddressBookStorage storage = createStorage(filePath, SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(ShardedAddressBookStorage.isManifestFile(filePath));
+        assertEquals(SHARD_COUNT, ShardedAddressBookStorage.getShardFilePaths(filePath).size());
+        assertEquals(original, read(filePath, SHARD_COUNT));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, read(filePath, SHARD_COUNT));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        ShardedAddressBookStorage storage = createStorage(filePath, SHARD_COUNT);
+        AddressBook original = getNumberedAddressBook(100);
+        storage.saveAddressBook(original);
+        List<Path> oldShardFilePaths = ShardedAddressBookStorage.getShardFilePaths(filePath);
+
+        Person target = original.getPersonList().get(42);
+        original.setPerson(target, new PersonBuilder(target).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+
+        List<Path> newShardFilePaths = ShardedAddressBookStorage.getShardFilePaths(filePath);
+        int targetShard = ShardedAddressBookStorage.getShardIndex(target.getName(), SHARD_COUNT);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            if (i == targetShard) {
+                assertNotEquals(oldShardFilePaths.get(i), newShardFilePaths.get(i));
+                assertFalse(Files.exists(oldShardFilePaths.get(i)));
+            } else {
+                assertEquals(oldShardFilePaths.get(i), newShardFilePaths.get(i));
+            }
+        }
+        assertEquals(original, read(filePath, SHARD_COUNT));
+    }
+
+    @Test
+    public void saveAddressBook_shardCountChanged_resharded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getNumberedAddressBook(50);
+        createStorage(filePath, SHARD_COUNT).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = createStorage(filePath, 2);
+        storage.saveAddressBook(storage.readAddressBook().get());
+
+        assertEquals(2, ShardedAddressBookStorage.getShardFilePaths(filePath).size());
+        assertEquals(original, read(filePath, 2));
+        // the manifest and the two new shards with their order files are all that is left
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(5, files.count());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_orderPreserved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        ShardedAddressBookStorage storage = createStorage(filePath, SHARD_COUNT);
+        AddressBook addressBook = getNumberedAddressBook(20);
+        storage.saveAddressBook(addressBook);
+
+        Random random = new Random(42);
+        int nextId = 20;
+        for (int save = 0; save < 50; save++) {
+            List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+            int choice = random.nextInt(5);
+            if (choice == 0 || persons.isEmpty()) {
+                persons.add(getNumberedPerson(nextId++));
+            } else if (choice == 1) {
+                // inserted between two persons, e.g. by a sorted import
+                persons.add(random.nextInt(persons.size()), getNumberedPerson(nextId++));
+            } else if (choice == 2) {
+                int index = random.nextInt(persons.size());
+                persons.set(index, new PersonBuilder(persons.get(index)).withName("Person " + nextId++).build());
+            } else if (choice == 3) {
+                persons.remove(random.nextInt(persons.size()));
+            } else {
+                persons.add(persons.remove(random.nextInt(persons.size())));
+            }
+            addressBook.setPersons(persons);
+            storage.saveAddressBook(addressBook);
+            assertEquals(addressBook, read(filePath, SHARD_COUNT));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_manifest_sizeIndependentOfPersonCount() throws Exception {
+        Path smallFilePath = testFolder.resolve("small.json");
+        Path largeFilePath = testFolder.resolve("large.json");
+        createStorage(smallFilePath, SHARD_COUNT).saveAddressBook(getNumberedAddressBook(10));
+        createStorage(largeFilePath, SHARD_COUNT).saveAddressBook(getNumberedAddressBook(1000));
+
+        assertEquals(Files.size(smallFilePath), Files.size(largeFilePath));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        createStorage(filePath, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        Files.delete(ShardedAddressBookStorage.getShardFilePaths(filePath).get(0));
+
+        assertThrows(DataLoadingException.class, () -> createStorage(filePath, SHARD_COUNT).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_orderDoesNotMatchShards_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path shardFilePath = testFolder.resolve("shard.json");
+        new JsonAddressBookStorage(shardFilePath).saveAddressBook(getTypicalAddressBook());
+        Files.writeString(filePath, "{\"shards\":[\"shard.json\"],\"generation\":1}");
+
+        // fewer keys than persons
+        Files.writeString(ShardedAddressBookStorage.getOrderFilePath(shardFilePath), "[1024,2048]");
+        assertThrows(DataLoadingException.class, () -> createStorage(filePath, SHARD_COUNT).readAddressBook());
+
+        // keys not increasing
+        Files.writeString(ShardedAddressBookStorage.getOrderFilePath(shardFilePath), "[1,2,3,4,5,7,6]");
+        assertThrows(DataLoadingException.class, () -> createStorage(filePath, SHARD_COUNT).readAddressBook());
+    }
+
+    @Test
+    public void isManifestFile_addressBookFile_returnsFalse() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(ShardedAddressBookStorage.isManifestFile(filePath));
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(ShardedAddressBookStorage.isManifestFile(filePath));
+    }
+
+    private static ShardedAddressBookStorage createStorage(Path filePath, int shardCount) {
+        return new ShardedAddressBookStorage(filePath, shardCount, JsonAddressBookStorage::new, Durability.NONE);
+    }
+
+    private static AddressBook read(Path filePath, int shardCount) throws Exception {
+        return new AddressBook(createStorage(filePath, shardCount).readAddressBook().get());
+    }
+}
@@ -73,4 +73,24 @@ public class TypicalPersons {
     public static List<Person> getTypicalPersons() {
         return new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE));
     }
+
+    /**
+     * Returns a person with the default fields of {@code PersonBuilder}, named "Person {@code number}".
+     */
+    public static Person getNumberedPerson(int number) {
+        return new PersonBuilder().withName("Person " + number).build();
+    }
+
+    /**
+     * Returns an {@code AddressBook} with {@code size} numbered persons, from "Person 0" onwards.
+     */
+    public static AddressBook getNumberedAddressBook(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(getNumberedPerson(i));
+        }
+        AddressBook ab = new AddressBook();
+        ab.setPersons(persons);
+        return ab;
+    }
 }